@@ -1,32 +1,61 @@
-package Domain;
-
-import java.util.ArrayList;
-
-/**
- * Parent class for key assignment algorithms on a keyboard.
- * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
- */
-public class Algorithm {
-    /** Distance matrix used by the algorithm. */
-    public DistanceMatrix distanceMatrix;
-    /** Flow matrix used by the algorithm. */
-    public FlowMatrix flowMatrix;
-    /** Best assignment found during the execution of the algorithm. */
-    public ArrayList<Integer> bestAssignment;
-
-    /**
-     * Constructor for the Algorithm class.
-     *
-     * @param dm Distance matrix used by the algorithm.
-     * @param fm Flow matrix used by the algorithm.
-     */
-    public Algorithm(DistanceMatrix dm, FlowMatrix fm) {
-        this.distanceMatrix = dm;
-        this.flowMatrix = fm;
-    }
-
-    /**
-     * Method that should be implemented by child classes to solve the assignment problem.
-     */
-    public void solve(){}
-}
+package Domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parent class for key assignment algorithms on a keyboard.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class Algorithm {
+    /** Distance matrix used by the algorithm. */
+    public DistanceMatrix distanceMatrix;
+    /** Flow matrix used by the algorithm. */
+    public FlowMatrix flowMatrix;
+    /** Best assignment found during the execution of the algorithm. */
+    public ArrayList<Integer> bestAssignment;
+
+    /**
+     * Constructor for the Algorithm class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public Algorithm(DistanceMatrix dm, FlowMatrix fm) {
+        this.distanceMatrix = dm;
+        this.flowMatrix = fm;
+    }
+
+    /**
+     * Method that should be implemented by child classes to solve the assignment problem.
+     */
+    public void solve(){}
+
+    /**
+     * Runs some tasks in a pool of threads and waits for all of them, for the algorithms that run in parallel.
+     * Exceptions thrown by a task are thrown again in the calling thread.
+     *
+     * @param pool  Pool of threads.
+     * @param tasks Tasks to run.
+     * @param <T>   Type of the results of the tasks.
+     * @return Results of the tasks, in the same order as the tasks.
+     * @throws IllegalStateException If the calling thread is interrupted while waiting.
+     */
+    static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+        ArrayList<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> result : pool.invokeAll(tasks)) results.add(result.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The algorithm was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+}
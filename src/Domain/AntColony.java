@@ -0,0 +1,265 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class that implements the MAX-MIN ant system of Stuetzle and Hoos for optimal key assignment on a keyboard.
+ * Subclass of the {@link Algorithm} class.
+ * The colony keeps a pheromone trail for every letter on every key. In every iteration each ant places the letters,
+ * in a random order, on free keys chosen with a probability proportional to their trail, and improves its layout by
+ * swapping pairs of keys until no swap lowers its cost. Then every trail evaporates, and the keys of the best layout
+ * of the iteration, or every few iterations of the best layout found, get more pheromone. The trails are kept
+ * between a minimum and a maximum that depend on the best cost, so no assignment becomes impossible, and they are
+ * reset to the maximum when the best layout stops improving.
+ * The ants of an iteration are independent, so they run in parallel.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class AntColony extends Algorithm {
+    /** Fraction of the pheromone that remains after every iteration. */
+    private static final double PERSISTENCE = 0.8;
+    /** Every how many iterations the best layout found, instead of the best of the iteration, adds pheromone. */
+    private static final int GLOBAL_BEST_INTERVAL = 5;
+    /** Number of iterations without improving the best layout after which the trails are reset. */
+    private static final int STAGNATION_ITERATIONS = 50;
+    /** Generator of the random numbers of the algorithm. */
+    private final SplittableRandom random;
+    /** Local search that improves the layout of every ant. */
+    private final LocalSearch localSearch;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Number of ants of the colony. */
+    private int numAnts;
+    /** Maximum number of iterations. */
+    private int maxIterations;
+    /** Maximum time the algorithm can run, in milliseconds, or 0 if there is no limit. */
+    private long timeLimitMillis;
+    /** Number of threads that build and improve the layouts of the ants. */
+    private int parallelism;
+
+    /**
+     * Constructor for the AntColony class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public AntColony(DistanceMatrix dm, FlowMatrix fm) {
+        this(dm, fm, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the AntColony class with a seed for random number generation.
+     *
+     * @param dm   Distance matrix used by the algorithm.
+     * @param fm   Flow matrix used by the algorithm.
+     * @param seed Seed for random number generation.
+     */
+    public AntColony(DistanceMatrix dm, FlowMatrix fm, long seed) {
+        this(dm, fm, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for the AntColony class with a given random number generator.
+     *
+     * @param dm     Distance matrix used by the algorithm.
+     * @param fm     Flow matrix used by the algorithm.
+     * @param random Random number generator.
+     * @throws IllegalArgumentException If the alphabet has more letters than the keyboard has keys.
+     */
+    private AntColony(DistanceMatrix dm, FlowMatrix fm, SplittableRandom random) {
+        super(dm, fm);
+        this.random = random;
+        this.localSearch = new LocalSearch(dm, fm);
+        this.numKeys = dm.matrix.size();
+        this.numLetters = fm.matrix.size();
+        if (numLetters > numKeys) {
+            throw new IllegalArgumentException("The keyboard has fewer keys than the alphabet has letters");
+        }
+        this.numAnts = 5;
+        this.maxIterations = 100;
+        this.parallelism = 1;
+    }
+
+    /**
+     * Sets the number of ants of the colony. It is 5 by default.
+     *
+     * @param numAnts Number of ants. Values lower than 1 are treated as 1.
+     */
+    public void setAnts(int numAnts) {
+        this.numAnts = Math.max(1, numAnts);
+    }
+
+    /**
+     * Sets the maximum number of iterations. It is 100 by default.
+     *
+     * @param maxIterations Maximum number of iterations. Values lower than 1 are treated as 1.
+     */
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = Math.max(1, maxIterations);
+    }
+
+    /**
+     * Sets the maximum time the algorithm can run. It is checked after every iteration, and the first iteration
+     * always runs.
+     *
+     * @param timeLimitMillis Time limit in milliseconds, or 0 if there is no limit.
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        this.timeLimitMillis = Math.max(0, timeLimitMillis);
+    }
+
+    /**
+     * Sets the number of threads among which the ants of every iteration are divided.
+     * The threads only change how fast an iteration runs: each ant draws from a stream of its own, created once when
+     * the colony starts, and the trails are only updated after all the ants of the iteration have finished.
+     *
+     * @param parallelism Number of threads. Values lower than 1 are treated as 1.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Solves the key assignment problem using the MAX-MIN ant system.
+     */
+    @Override
+    public void solve() {
+        long start = System.currentTimeMillis();
+        SplittableRandom[] streams = new SplittableRandom[numAnts];
+        for (int a = 0; a < numAnts; ++a) streams[a] = random.split();
+        // Any uniform trail gives the same probabilities, and the trails are set to the maximum after the first ants
+        double[][] pheromones = new double[numLetters][numKeys];
+        for (double[] trails : pheromones) Arrays.fill(trails, 1);
+        List<Callable<int[]>> tasks = new ArrayList<>();
+        for (SplittableRandom stream : streams) {
+            tasks.add(() -> ant(pheromones, stream));
+        }
+        int[] best = null;
+        double bestCost = Double.MAX_VALUE;
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(Math.min(parallelism, numAnts)) : null;
+        try {
+            int stagnant = 0;
+            for (int iteration = 0; iteration < maxIterations; ++iteration) {
+                List<int[]> layouts = new ArrayList<>();
+                if (pool != null) {
+                    layouts = invokeAll(pool, tasks);
+                } else {
+                    for (SplittableRandom stream : streams) layouts.add(ant(pheromones, stream));
+                }
+                // The layouts come back in the order of the ants, and only a strictly lower cost replaces the best
+                int[] iterationBest = null;
+                double iterationBestCost = Double.MAX_VALUE;
+                for (int[] layout : layouts) {
+                    double cost = localSearch.cost(layout);
+                    if (cost < iterationBestCost) {
+                        iterationBestCost = cost;
+                        iterationBest = layout;
+                    }
+                }
+                boolean reset = best == null;
+                if (iterationBestCost < bestCost - 1e-9) {
+                    bestCost = iterationBestCost;
+                    best = iterationBest;
+                    stagnant = 0;
+                } else if (++stagnant >= STAGNATION_ITERATIONS) {
+                    reset = true;
+                    stagnant = 0;
+                }
+                if (timeLimitMillis > 0 && System.currentTimeMillis() - start >= timeLimitMillis) break;
+                double maxTrail = 1 / ((1 - PERSISTENCE) * Math.max(bestCost, Double.MIN_NORMAL));
+                double minTrail = maxTrail / (2 * numLetters);
+                if (reset) {
+                    for (double[] trails : pheromones) Arrays.fill(trails, maxTrail);
+                } else if (iteration % GLOBAL_BEST_INTERVAL == 0) {
+                    updatePheromones(pheromones, best, bestCost, minTrail, maxTrail);
+                } else {
+                    updatePheromones(pheromones, iterationBest, iterationBestCost, minTrail, maxTrail);
+                }
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
+        bestAssignment = new ArrayList<>();
+        for (int letter : best) bestAssignment.add(letter);
+    }
+
+    /**
+     * Builds the layout of an ant and improves it with the local search.
+     *
+     * @param pheromones Pheromone trail of every letter on every key.
+     * @param r          Random number generator of the ant.
+     * @return Letter assigned to each key, or -1 if the key is empty.
+     */
+    private int[] ant(double[][] pheromones, SplittableRandom r) {
+        int[] layout = construct(pheromones, r);
+        localSearch.improve(layout, localSearch.cost(layout));
+        return layout;
+    }
+
+    /**
+     * Builds the layout of an ant from the pheromone trails.
+     *
+     * @param pheromones Pheromone trail of every letter on every key.
+     * @param r          Random number generator of the ant.
+     * @return Letter assigned to each key, or -1 if the key is empty.
+     */
+    private int[] construct(double[][] pheromones, SplittableRandom r) {
+        int[] layout = new int[numKeys];
+        Arrays.fill(layout, -1);
+        int[] letters = new int[numLetters];
+        for (int x = 0; x < numLetters; ++x) letters[x] = x;
+        for (int i = numLetters - 1; i > 0; --i) {
+            int j = r.nextInt(i + 1);
+            int x = letters[i];
+            letters[i] = letters[j];
+            letters[j] = x;
+        }
+        for (int x : letters) {
+            double[] trails = pheromones[x];
+            double total = 0;
+            for (int k = 0; k < numKeys; ++k) {
+                if (layout[k] == -1) total += trails[k];
+            }
+            double target = r.nextDouble() * total;
+            int key = -1;
+            for (int k = 0; k < numKeys; ++k) {
+                if (layout[k] != -1) continue;
+                key = k;
+                target -= trails[k];
+                if (target < 0) break;
+            }
+            layout[key] = x;
+        }
+        return layout;
+    }
+
+    /**
+     * Evaporates every trail and adds pheromone to the keys of the letters of a layout, keeping every trail between
+     * the minimum and the maximum.
+     *
+     * @param pheromones Pheromone trail of every letter on every key. It is modified in place.
+     * @param layout     Layout that adds pheromone.
+     * @param cost       Cost of the layout.
+     * @param minTrail   Minimum trail.
+     * @param maxTrail   Maximum trail.
+     */
+    private void updatePheromones(double[][] pheromones, int[] layout, double cost, double minTrail,
+                                  double maxTrail) {
+        for (double[] trails : pheromones) {
+            for (int k = 0; k < numKeys; ++k) trails[k] *= PERSISTENCE;
+        }
+        double deposit = 1 / Math.max(cost, Double.MIN_NORMAL);
+        for (int k = 0; k < numKeys; ++k) {
+            if (layout[k] != -1) pheromones[layout[k]][k] += deposit;
+        }
+        for (double[] trails : pheromones) {
+            for (int k = 0; k < numKeys; ++k) trails[k] = Math.min(maxTrail, Math.max(minTrail, trails[k]));
+        }
+    }
+}
@@ -1,183 +1,846 @@
-package Domain;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.PriorityQueue;
-
-/**
- * Class that implements the Branch and Bound algorithm for optimal key assignment on a keyboard.
- * Subclass of the {@link Algorithm} class.
- * This class uses the Branch and Bound algorithm to solve the problem of optimal key assignment on a keyboard.
- * Inherits from the {@link Algorithm} class and provides specific implementations for the Branch and Bound algorithm.
- * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
- */
-public class BranchAndBound extends Algorithm {
-    /** Best cost found during the execution of the algorithm. */
-    private double bestCost;
-    /** Priority queue that stores live nodes sorted by their cost from lowest to highest. */
-    private PriorityQueue<Node> queue;
-
-    /**
-     * Constructor for the BranchAndBound class.
-     *
-     * @param dm Distance matrix used by the algorithm.
-     * @param fm Flow matrix used by the algorithm.
-     */
-    public BranchAndBound(DistanceMatrix dm, FlowMatrix fm) {
-        super(dm, fm);
-        queue = new PriorityQueue<>();
-    }
-
-    /**
-     * Solves the key assignment problem using the Branch and Bound algorithm.
-     */
-    public void solve() {
-        bestCost = Double.MAX_VALUE;
-        bestAssignment = new ArrayList<>();
-        ArrayList<Integer> currentAssignment = new ArrayList<>(Collections.nCopies(distanceMatrix.matrix.size(), -1));
-        queue.add(new Node(0, currentAssignment, 0));
-        while (!queue.isEmpty()) {
-            Node node = queue.poll();
-            branchAndBound(node.level, node.assignment, node.cost);
-        }
-    }
-
-    /**
-     * Private method that implements a backtracking algorithm.
-     *
-     * @param level Current level of the search tree.
-     * @param currentAssignment Current key assignment.
-     * @param currentCost Accumulated cost up to the current level.
-     */
-    private void branchAndBound(int level, ArrayList<Integer> currentAssignment, double currentCost) {
-        int count = 0;
-        for(int l = 0; l < flowMatrix.matrix.size(); ++l) {
-            if(currentAssignment.contains(l)) ++count;
-        }
-        if (level == distanceMatrix.matrix.size()) {
-            if (currentCost < bestCost) {
-                bestCost = currentCost;
-                bestAssignment = new ArrayList<>(currentAssignment);
-            }
-            return;
-        } else if(count == flowMatrix.matrix.size()) {
-            if (currentCost < bestCost) {
-                bestCost = currentCost;
-                bestAssignment = new ArrayList<>(currentAssignment);
-            }
-            return;
-        }
-        for (int i = 0; i < flowMatrix.matrix.size(); i++) {
-            if (!currentAssignment.contains(i)) {
-                currentAssignment.set(level, i);
-                double lowerBound = calculateLowerBound(currentAssignment);
-                if (lowerBound < bestCost) {
-                    queue.add(new Node(level + 1, currentAssignment, lowerBound));
-                }
-                currentAssignment.set(level, -1);
-            }
-        }
-    }
-
-    /**
-     * Calculates a lower bound of the cost of the reachable solutions from the current assignment.
-     * Uses the greedy algorithm to complete the missing key assignment and returns the resulting cost.
-     *
-     * @param assignment Current key assignment.
-     * @return Lower bound of the cost of the solutions.
-     */
-    private double calculateLowerBound(ArrayList<Integer> assignment) {
-        ArrayList<Integer> greedyAssignment = new ArrayList<>(assignment);
-        completeAssignment(greedyAssignment);
-        return calculateCost(greedyAssignment);
-    }
-
-    /**
-     * Completes the missing key assignments using the greedy algorithm.
-     *
-     * @param assignment Current key assignment.
-     */
-    private void completeAssignment(ArrayList<Integer> assignment) {
-        for (int t1 = 0; t1 < distanceMatrix.matrix.size(); t1++) {
-            if (assignment.get(t1) == -1) {
-                double minCost = Double.MAX_VALUE;
-                int bestKey = -1;
-                for (int k = 0; k < flowMatrix.matrix.size(); k++) {
-                    if (!assignment.contains(k)) {
-                        double cost = 0;
-                        for (int t2 = 0; t2 < distanceMatrix.matrix.size(); t2++) {
-                            int x = assignment.get(t2);
-                            if (x != -1) {
-                                cost += distanceMatrix.matrix.get(t1).get(t2) * flowMatrix.matrix.get(k).get(x);
-                            }
-                        }
-                        if (cost < minCost) {
-                            minCost = cost;
-                            bestKey = k;
-                        }
-                    }
-                }
-                assignment.set(t1, bestKey);
-            }
-        }
-    }
-
-    /**
-     * Calculates the cost of a given assignment.
-     *
-     * @param assignment Current key assignment.
-     * @return Cost of the assignment.
-     */
-    private double calculateCost(ArrayList<Integer> assignment) {
-        double cost = 0;
-        for (int t1 = 0; t1 < distanceMatrix.matrix.size(); t1++) {
-            for (int t2 = 0; t2 < distanceMatrix.matrix.size(); t2++) {
-                int x = assignment.get(t1);
-                int y = assignment.get(t2);
-                if (x != -1 && y != -1) {
-                    cost += distanceMatrix.matrix.get(t1).get(t2) * flowMatrix.matrix.get(x).get(y);
-                }
-            }
-        }
-        return cost;
-    }
-
-    /**
-     * Inner class representing a node in the search tree.
-     * Implements the Comparable interface to order the nodes by their cost.
-     */
-    private class Node implements Comparable<Node> {
-        /** Level of the node in the tree. */
-        int level;
-
-        /** Key assignment associated with the node. */
-        ArrayList<Integer> assignment;
-
-        /** Estimated cost of the node. */
-        double cost;
-
-        /**
-         * Constructor for the Node class.
-         *
-         * @param level Level of the node in the tree.
-         * @param assignment Key assignment associated with the node.
-         * @param cost Estimated cost of the node.
-         */
-        public Node(int level, ArrayList<Integer> assignment, double cost) {
-            this.level = level;
-            this.assignment = new ArrayList<>(assignment);
-            this.cost = cost;
-        }
-
-        /**
-         * Method to compare two nodes by their cost.
-         *
-         * @param other The other node to compare with.
-         * @return A negative value if this node's cost is less than the other's, zero if they are equal, or a positive value if it is greater.
-         */
-        @Override
-        public int compareTo(Node other) {
-            return Double.compare(this.cost, other.cost);
-        }
-    }
-}
+package Domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Class that implements the Branch and Bound algorithm for optimal key assignment on a keyboard.
+ * Subclass of the {@link Algorithm} class.
+ * This class uses the Branch and Bound algorithm to solve the problem of optimal key assignment on a keyboard.
+ * Inherits from the {@link Algorithm} class and provides specific implementations for the Branch and Bound algorithm.
+ * Nodes store their assignment as a byte array, so alphabets can have at most 127 letters.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class BranchAndBound extends Algorithm {
+    /** Number of queued tasks below which a thread forks new tasks instead of exploring them itself. */
+    private static final int SURPLUS_TASKS = 2;
+    /** Bits of the best cost found during the execution of the algorithm, shared by every thread. */
+    private final AtomicLong bestCost;
+    /** Best key assignment found during the execution of the algorithm, indexed by key. */
+    private volatile byte[] bestLayout;
+    /** Priority queue that stores live nodes sorted by their cost from lowest to highest. */
+    private PriorityQueue<Node> queue;
+    /** Working data of each thread of the pool. */
+    private final ThreadLocal<Worker> workers;
+    /** Number of threads used to solve the problem. */
+    private int parallelism;
+    /** Distance between every pair of keys. */
+    private final double[][] distances;
+    /** Flow between every pair of letters in both directions (f[i][j] + f[j][i]). */
+    private final double[][] flows;
+    /** Flow of every letter with itself. */
+    private final double[] selfFlows;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Order in which the letters are placed when branching on letters. */
+    private final int[] letterOrder;
+    /** Strategy used to branch the nodes of the search tree. */
+    private BranchingStrategy branching;
+    /** Symmetries of the keyboard other than the identity, as permutations of the keys. */
+    private final int[][] symmetries;
+    /** Whether subtrees that are symmetric to another one are pruned. */
+    private boolean symmetryBreaking;
+    /** Lowest letter of the class of interchangeable letters of every letter. */
+    private final int[] letterClasses;
+    /** Previous letter of the same interchangeable class in the order of placement, or -1 if it is the first. */
+    private final int[] previousInterchangeable;
+    /** Whether interchangeable letters are only placed in one order. */
+    private boolean interchangeablePruning;
+    /** Maximum number of live nodes kept in the priority queue. */
+    private long maxFrontierNodes;
+    /** Number of nodes kept per level in beam search, or 0 to solve the problem exactly. */
+    private int beamWidth;
+    /** Function that receives the checkpoints of the search, or null if no checkpoints are taken. */
+    private Consumer<BranchAndBoundCheckpoint> checkpointHandler;
+    /** Minimum time between two checkpoints, in milliseconds. */
+    private long checkpointInterval;
+    /** Time at which the next checkpoint is due, in milliseconds. */
+    private long nextCheckpoint;
+    /** Nodes of the parallel search that are not explored yet, forked or pending in the stack of a task. */
+    private final HashSet<Node> liveNodes;
+
+    /**
+     * Constructor for the BranchAndBound class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public BranchAndBound(DistanceMatrix dm, FlowMatrix fm) {
+        super(dm, fm);
+        if (fm.matrix.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Branch and Bound supports alphabets of up to " + Byte.MAX_VALUE
+                    + " letters");
+        }
+        queue = new PriorityQueue<>();
+        bestCost = new AtomicLong();
+        workers = ThreadLocal.withInitial(Worker::new);
+        parallelism = 1;
+        distances = dm.toArray();
+        double[][] f = fm.toArray();
+        numKeys = distances.length;
+        numLetters = f.length;
+        flows = new double[numLetters][numLetters];
+        selfFlows = new double[numLetters];
+        for (int i = 0; i < numLetters; ++i) {
+            selfFlows[i] = f[i][i];
+            for (int j = 0; j < numLetters; ++j) {
+                if (i != j) flows[i][j] = f[i][j] + f[j][i];
+            }
+        }
+        letterOrder = sortLettersByFlow();
+        previousInterchangeable = new int[numLetters];
+        letterClasses = fm.interchangeableClasses();
+        setBranchingStrategy(numKeys > numLetters ? BranchingStrategy.LETTERS : BranchingStrategy.KEYS);
+        ArrayList<int[]> group = dm.symmetries();
+        symmetries = group.subList(1, group.size()).toArray(new int[0][]);
+        symmetryBreaking = true;
+        interchangeablePruning = true;
+        liveNodes = new HashSet<>();
+        setFrontierByteBudget(Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    /**
+     * Sets the strategy used to branch the nodes of the search tree.
+     * By default the algorithm branches on letters when there are more keys than letters, and on keys otherwise.
+     *
+     * @param branching Branching strategy.
+     */
+    public void setBranchingStrategy(BranchingStrategy branching) {
+        this.branching = branching;
+        // Interchangeable letters are placed in the order in which the strategy reaches them
+        int[] classes = flowMatrix.interchangeableClasses();
+        int[] lastOfClass = new int[numLetters];
+        Arrays.fill(lastOfClass, -1);
+        for (int index = 0; index < numLetters; ++index) {
+            int letter = branching == BranchingStrategy.LETTERS ? letterOrder[index] : index;
+            previousInterchangeable[letter] = lastOfClass[classes[letter]];
+            lastOfClass[classes[letter]] = letter;
+        }
+    }
+
+    /**
+     * Sets the number of threads used to solve the problem.
+     * With one thread the tree is explored best first. With more threads the subtrees are explored depth first
+     * in a work-stealing pool, and every thread prunes against the best cost found by any of them.
+     *
+     * @param parallelism Number of threads. Values lower than 1 are treated as 1.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Solves the key assignment problem using the Branch and Bound algorithm.
+     */
+    public void solve() {
+        bestCost.set(Double.doubleToLongBits(Double.MAX_VALUE));
+        bestLayout = null;
+        byte[] root = new byte[numKeys];
+        Arrays.fill(root, (byte) -1);
+        Node rootNode = new Node(0, root, new long[(numLetters + 63) >>> 6], 0, 0);
+        seedBestSolution();
+        if (beamWidth > 0) {
+            beamSearch(rootNode);
+        } else {
+            search(Collections.singletonList(rootNode));
+        }
+        setBestAssignment();
+    }
+
+    /**
+     * Continues a search from a checkpoint taken while solving the same problem, possibly in another execution.
+     * The best assignment and the live nodes of the checkpoint are restored, and the search goes on until every
+     * node is explored, so the result is optimal like that of {@link #solve()}.
+     *
+     * @param checkpoint Checkpoint of the search.
+     * @throws IllegalArgumentException If the checkpoint was taken while solving a different problem.
+     */
+    public void resume(BranchAndBoundCheckpoint checkpoint) {
+        if (checkpoint.getProblemId() != getProblemId() || checkpoint.getNumKeys() != numKeys) {
+            throw new IllegalArgumentException("The checkpoint belongs to a different problem");
+        }
+        bestCost.set(Double.doubleToLongBits(checkpoint.getBestCost()));
+        bestLayout = checkpoint.getBestLayout();
+        seedBestSolution();
+        ArrayList<Node> frontier = new ArrayList<>();
+        byte[] assignments = checkpoint.getAssignments();
+        for (int n = 0; n < checkpoint.getNumNodes(); ++n) {
+            byte[] assignment = Arrays.copyOfRange(assignments, n * numKeys, (n + 1) * numKeys);
+            long[] usedLetters = new long[(numLetters + 63) >>> 6];
+            int level = 0;
+            for (byte letter : assignment) {
+                if (letter != -1) {
+                    usedLetters[letter >>> 6] |= 1L << letter;
+                    ++level;
+                }
+            }
+            frontier.add(new Node(level, assignment, usedLetters, checkpoint.getPartialCosts()[n],
+                    checkpoint.getCosts()[n]));
+        }
+        search(frontier);
+        setBestAssignment();
+    }
+
+    /**
+     * Sets the function that receives the checkpoints of the search, and how often they are taken.
+     * A checkpoint holds the best assignment and the live nodes of the tree, and {@link #resume} continues the
+     * search from it. Checkpoints are taken while exploring the tree exactly, not in beam search.
+     *
+     * @param handler        Function that receives the checkpoints, for example to save them to a file, or null to
+     *                       take no checkpoints.
+     * @param intervalMillis Minimum time between two checkpoints, in milliseconds.
+     */
+    public void setCheckpointHandler(Consumer<BranchAndBoundCheckpoint> handler, long intervalMillis) {
+        this.checkpointHandler = handler;
+        this.checkpointInterval = Math.max(0, intervalMillis);
+    }
+
+    /**
+     * Explores the subtrees of some live nodes until every one of them is explored or pruned.
+     *
+     * @param frontier Live nodes to explore.
+     */
+    private void search(List<Node> frontier) {
+        nextCheckpoint = System.currentTimeMillis() + checkpointInterval;
+        if (parallelism > 1) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                ArrayList<SubtreeTask> tasks = new ArrayList<>();
+                for (Node node : frontier) tasks.add(new SubtreeTask(node));
+                if (checkpointHandler != null) liveNodes.addAll(frontier);
+                awaitSearch(pool.submit(() -> {
+                    ForkJoinTask.invokeAll(tasks);
+                }));
+            } finally {
+                pool.shutdown();
+                liveNodes.clear();
+            }
+        } else {
+            Worker worker = new Worker();
+            queue.clear();
+            queue.addAll(frontier);
+            while (!queue.isEmpty()) {
+                checkpointIfDue(Collections.emptyList());
+                Node node = queue.poll();
+                // Nodes are sorted by their lower bound, so the remaining ones cannot improve the best cost
+                if (node.cost >= getBestCost()) break;
+                if (queue.size() + numKeys > maxFrontierNodes) {
+                    worker.depthFirst(node);
+                } else {
+                    queue.addAll(worker.branchAndBound(node));
+                }
+            }
+            queue.clear();
+        }
+    }
+
+    /**
+     * Waits until the pool finishes the search, taking checkpoints of the unfinished subtrees meanwhile.
+     *
+     * @param search Task that explores every subtree.
+     */
+    private void awaitSearch(ForkJoinTask<?> search) {
+        while (true) {
+            try {
+                if (checkpointHandler == null) {
+                    search.get();
+                } else {
+                    long wait = nextCheckpoint - System.currentTimeMillis();
+                    if (wait > 0) search.get(wait, TimeUnit.MILLISECONDS);
+                    else if (search.isDone()) search.get();
+                    else throw new TimeoutException();
+                }
+                return;
+            } catch (TimeoutException e) {
+                ArrayList<Node> frontier;
+                synchronized (liveNodes) {
+                    frontier = new ArrayList<>(liveNodes);
+                }
+                takeCheckpoint(frontier);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                search.cancel(true);
+                throw new IllegalStateException("Branch and Bound was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Takes a checkpoint of the sequential search if one is due. The live nodes are the ones in the priority
+     * queue and the pending ones of the current depth first exploration.
+     *
+     * @param pending Nodes pending to explore outside the priority queue.
+     */
+    private void checkpointIfDue(Collection<Node> pending) {
+        if (checkpointHandler == null || System.currentTimeMillis() < nextCheckpoint) return;
+        ArrayList<Node> frontier = new ArrayList<>(queue);
+        frontier.addAll(pending);
+        takeCheckpoint(frontier);
+    }
+
+    /**
+     * Sends a checkpoint with the best assignment and some live nodes to the checkpoint handler.
+     * The nodes have to be taken before the best assignment, so that any assignment found after exploring part of
+     * their subtrees is already included.
+     *
+     * @param frontier Live nodes whose subtrees contain every assignment that can still improve the best one.
+     */
+    private void takeCheckpoint(List<Node> frontier) {
+        double cost;
+        byte[] layout;
+        synchronized (this) {
+            cost = getBestCost();
+            layout = bestLayout;
+        }
+        byte[] assignments = new byte[frontier.size() * numKeys];
+        double[] partialCosts = new double[frontier.size()];
+        double[] costs = new double[frontier.size()];
+        for (int n = 0; n < frontier.size(); ++n) {
+            Node node = frontier.get(n);
+            System.arraycopy(node.assignment, 0, assignments, n * numKeys, numKeys);
+            partialCosts[n] = node.partialCost;
+            costs[n] = node.cost;
+        }
+        checkpointHandler.accept(new BranchAndBoundCheckpoint(getProblemId(), numKeys, cost,
+                layout == null ? null : layout.clone(), assignments, partialCosts, costs));
+        nextCheckpoint = System.currentTimeMillis() + checkpointInterval;
+    }
+
+    /**
+     * Identifies the problem being solved by the matrices, the branching strategy and the pruning of interchangeable
+     * letters, which decide the tree.
+     *
+     * @return Identifier of the problem.
+     */
+    private int getProblemId() {
+        return Objects.hash(Arrays.deepHashCode(distances), Arrays.deepHashCode(flows), Arrays.hashCode(selfFlows),
+                branching.name(), interchangeablePruning);
+    }
+
+    /**
+     * Converts the best layout found to the best assignment of the algorithm.
+     */
+    private void setBestAssignment() {
+        bestAssignment = new ArrayList<>();
+        if (bestLayout != null) {
+            for (byte letter : bestLayout) bestAssignment.add((int) letter);
+        }
+    }
+
+    /**
+     * Sets the number of nodes kept per level of the tree, to get a good assignment in a bounded time.
+     * With a positive width the tree is explored level by level, and only the nodes with the lowest bound of each
+     * level are expanded, so the time grows with levels x width x keys. The result is not guaranteed to be optimal,
+     * but it gets closer as the width grows.
+     *
+     * @param beamWidth Number of nodes kept per level, or 0 to solve the problem exactly.
+     */
+    public void setBeamWidth(int beamWidth) {
+        this.beamWidth = Math.max(0, beamWidth);
+    }
+
+    /**
+     * Sets the maximum number of live nodes kept in the priority queue.
+     * The tree is explored best first until the queue reaches this size. From then on, the cheapest node is
+     * explored depth first instead of queueing its children, so memory stays flat and the result remains optimal.
+     *
+     * @param maxNodes Maximum number of live nodes.
+     */
+    public void setFrontierNodeBudget(long maxNodes) {
+        this.maxFrontierNodes = Math.max(1, maxNodes);
+    }
+
+    /**
+     * Sets the maximum memory used by the live nodes kept in the priority queue.
+     * It is translated to a number of nodes with the approximate size of a node for this keyboard.
+     *
+     * @param maxBytes Maximum number of bytes.
+     */
+    public void setFrontierByteBudget(long maxBytes) {
+        // Node object, byte array of the assignment, long array of the letters and reference in the queue
+        long nodeBytes = 40 + align(16 + numKeys) + 16 + 8L * ((numLetters + 63) >>> 6) + 8;
+        setFrontierNodeBudget(maxBytes / nodeBytes);
+    }
+
+    /**
+     * Sets whether subtrees that are symmetric to another one are pruned. It is enabled by default.
+     * Reflections of the keyboard (and transpositions of a square one) do not change the cost of an assignment, so
+     * when branching on letters each letter is only placed on the first key of every group of keys that the
+     * symmetries keeping the placed letters fixed can exchange. When branching on keys on a keyboard that the
+     * letters fill, an assignment is only kept if, read key by key, its letters are not greater than those of any
+     * of its symmetric copies, comparing interchangeable letters as equal. Branching on keys on a keyboard with
+     * more keys than letters only uses the first keys, whose symmetric copies are not in the tree, so nothing is
+     * pruned. Every optimal assignment still has a symmetric copy that satisfies these rules, so the result remains
+     * optimal.
+     *
+     * @param symmetryBreaking True to prune symmetric subtrees, false to explore all of them.
+     */
+    public void setSymmetryBreaking(boolean symmetryBreaking) {
+        this.symmetryBreaking = symmetryBreaking;
+    }
+
+    /**
+     * Sets whether interchangeable letters are only placed in one order. It is enabled by default.
+     * Letters with the same flows (see {@link FlowMatrix#interchangeableClasses()}) can be permuted without
+     * changing the cost, so when branching on letters each one is placed on a higher key than the previous letter
+     * of its class, and when branching on keys a letter is only placed after the previous letters of its class.
+     * Every assignment still has an equivalent one that satisfies this, so the result remains optimal, also
+     * together with symmetry breaking.
+     *
+     * @param interchangeablePruning True to place interchangeable letters in one order, false to try every order.
+     */
+    public void setInterchangeablePruning(boolean interchangeablePruning) {
+        this.interchangeablePruning = interchangeablePruning;
+    }
+
+    /**
+     * Sorts the letters by their total flow, from highest to lowest.
+     * Letters with more flow decide more of the cost, so placing them first lets the bound prune earlier.
+     *
+     * @return Letters in the order in which they are placed.
+     */
+    private int[] sortLettersByFlow() {
+        double[] totalFlow = new double[numLetters];
+        Integer[] letters = new Integer[numLetters];
+        for (int i = 0; i < numLetters; ++i) {
+            letters[i] = i;
+            totalFlow[i] = 2 * selfFlows[i];
+            for (int j = 0; j < numLetters; ++j) totalFlow[i] += flows[i][j];
+        }
+        Arrays.sort(letters, (a, b) -> Double.compare(totalFlow[b], totalFlow[a]));
+        int[] order = new int[numLetters];
+        for (int i = 0; i < numLetters; ++i) order[i] = letters[i];
+        return order;
+    }
+
+    /**
+     * Explores the tree level by level, keeping only the nodes with the lowest bound of each level.
+     *
+     * @param rootNode Root of the search tree.
+     */
+    private void beamSearch(Node rootNode) {
+        Worker worker = new Worker();
+        ArrayList<Node> level = new ArrayList<>();
+        level.add(rootNode);
+        // The worst kept node is at the head, so it can be replaced when a better one appears
+        PriorityQueue<Node> beam = new PriorityQueue<>(beamWidth + 1, Collections.reverseOrder());
+        while (!level.isEmpty()) {
+            for (Node node : level) {
+                if (node.cost >= getBestCost()) continue;
+                for (Node child : worker.branchAndBound(node)) {
+                    beam.add(child);
+                    if (beam.size() > beamWidth) beam.poll();
+                }
+            }
+            level = new ArrayList<>(beam);
+            beam.clear();
+        }
+    }
+
+    /**
+     * Finds a good assignment quickly and uses it as the initial best solution, so the search prunes from the start.
+     * Letters are placed in order of decreasing flow on the free key that adds the least cost, and the result is
+     * improved by swapping pairs of keys.
+     */
+    private void seedBestSolution() {
+        if (numLetters == 0 || numLetters > numKeys) return;
+        // Branching on keys only places letters on the first keys, so the seed has to do the same
+        int usableKeys = branching == BranchingStrategy.KEYS ? numLetters : numKeys;
+        int[] layout = new int[numKeys];
+        Arrays.fill(layout, -1);
+        int[] keyOf = new int[numLetters];
+        for (int index = 0; index < numLetters; ++index) {
+            int letter = letterOrder[index];
+            int bestKey = -1;
+            double bestIncrease = Double.MAX_VALUE;
+            for (int k = 0; k < usableKeys; ++k) {
+                if (layout[k] != -1) continue;
+                double increase = 0;
+                if (index == 0) {
+                    // The first letter goes to the most central key
+                    for (int d = 0; d < numKeys; ++d) increase += distances[k][d];
+                } else {
+                    for (int j = 0; j < index; ++j) {
+                        increase += flows[letter][letterOrder[j]] * distances[k][keyOf[letterOrder[j]]];
+                    }
+                }
+                if (increase < bestIncrease) {
+                    bestIncrease = increase;
+                    bestKey = k;
+                }
+            }
+            layout[bestKey] = letter;
+            keyOf[letter] = bestKey;
+        }
+        LocalSearch localSearch = new LocalSearch(distanceMatrix, flowMatrix);
+        double cost = localSearch.improve(layout, localSearch.cost(layout), usableKeys);
+        byte[] seed = new byte[numKeys];
+        for (int k = 0; k < numKeys; ++k) seed[k] = (byte) layout[k];
+        offerSolution(cost, seed);
+    }
+
+    /**
+     * Gets the best cost found so far by any thread.
+     *
+     * @return Best cost found, or Double.MAX_VALUE if no assignment has been completed.
+     */
+    private double getBestCost() {
+        return Double.longBitsToDouble(bestCost.get());
+    }
+
+    /**
+     * Updates the best assignment if the given one improves it.
+     *
+     * @param cost   Cost of the complete assignment.
+     * @param layout Letter assigned to each key.
+     */
+    private synchronized void offerSolution(double cost, byte[] layout) {
+        // Costs are never negative, so their bit patterns are ordered like the values
+        if (cost < getBestCost()) {
+            bestCost.set(Double.doubleToLongBits(cost));
+            bestLayout = layout;
+        }
+    }
+
+    /**
+     * Strategies to branch the nodes of the search tree.
+     */
+    public enum BranchingStrategy {
+        /** Each level places a letter on the next key, so the tree has one level per key. */
+        KEYS,
+        /**
+         * Each level places the next letter, in order of decreasing flow, on a free key, so the tree has one level
+         * per letter.
+         */
+        LETTERS
+    }
+
+    /**
+     * Rounds a number of bytes up to the alignment of objects in memory.
+     *
+     * @param bytes Number of bytes.
+     * @return Number of bytes rounded up to a multiple of 8.
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Inner class with the working data of a thread that expands nodes.
+     * Each thread needs its own instance, because the lower bound and the letter positions are reused buffers.
+     */
+    private class Worker {
+        /** Lower bound used to prune the nodes that cannot improve the best cost. */
+        final GilmoreLawlerBound lowerBound = new GilmoreLawlerBound(distanceMatrix, flowMatrix);
+        /** Key of every letter in the node being expanded, or -1 if the letter is not placed. */
+        final int[] keyOfLetter = new int[numLetters];
+        /** Symmetries that keep every placed letter of the node being expanded on its key. */
+        final int[][] stabilizers = new int[symmetries.length][];
+
+        /**
+         * Expands a node of the search tree. Depending on the branching strategy, it places every free letter on
+         * the next key, or the next letter on every free key. Children that complete the assignment are offered as
+         * solutions, and the rest are returned if their lower bound can still improve the best cost.
+         *
+         * @param node Node to expand.
+         * @return Children of the node that have to be explored.
+         */
+        ArrayList<Node> branchAndBound(Node node) {
+            ArrayList<Node> children = new ArrayList<>();
+            int level = node.level;
+            Arrays.fill(keyOfLetter, -1);
+            for (int k = 0; k < numKeys; ++k) {
+                if (node.assignment[k] != -1) keyOfLetter[node.assignment[k]] = k;
+            }
+            // The bounds of the children start from the linear assignment of this node
+            if (level + 1 < numLetters) lowerBound.setParent(keyOfLetter);
+            if (branching == BranchingStrategy.LETTERS) {
+                int letter = letterOrder[level];
+                boolean complete = level + 1 == numLetters;
+                int numStabilizers = symmetryBreaking ? findStabilizers(node.assignment) : 0;
+                int previous = interchangeablePruning ? previousInterchangeable[letter] : -1;
+                int firstKey = previous == -1 ? 0 : keyOfLetter[previous] + 1;
+                for (int k = firstKey; k < numKeys; k++) {
+                    if (node.assignment[k] == -1 && isCanonical(k, numStabilizers)) {
+                        addChild(node, letter, k, complete, children);
+                    }
+                }
+            } else {
+                boolean complete = level + 1 == numLetters || level + 1 == numKeys;
+                boolean breakSymmetries = symmetryBreaking && numLetters >= numKeys;
+                for (int i = 0; i < numLetters; i++) {
+                    if (isUsed(node.usedLetters, i)) continue;
+                    int previous = interchangeablePruning ? previousInterchangeable[i] : -1;
+                    if ((previous == -1 || isUsed(node.usedLetters, previous))
+                            && (!breakSymmetries || isLexLeader(node.assignment, level, i))) {
+                        addChild(node, i, level, complete, children);
+                    }
+                }
+            }
+            return children;
+        }
+
+        /**
+         * Explores the subtree of a node depth first, visiting the children with the lowest bound first.
+         * The memory used is proportional to the depth of the tree.
+         *
+         * @param node Root of the subtree.
+         */
+        void depthFirst(Node node) {
+            ArrayDeque<Node> pending = new ArrayDeque<>();
+            pending.push(node);
+            while (!pending.isEmpty()) {
+                checkpointIfDue(pending);
+                Node next = pending.pop();
+                if (next.cost >= getBestCost()) continue;
+                ArrayList<Node> children = branchAndBound(next);
+                Collections.sort(children);
+                for (int c = children.size() - 1; c >= 0; --c) pending.push(children.get(c));
+            }
+        }
+
+        /**
+         * Finds the symmetries that keep every occupied key of an assignment in place.
+         *
+         * @param assignment Letter assigned to each key, or -1 if the key is empty.
+         * @return Number of symmetries found, which are stored at the beginning of the stabilizers array.
+         */
+        private int findStabilizers(byte[] assignment) {
+            int count = 0;
+            for (int[] symmetry : symmetries) {
+                boolean fixed = true;
+                for (int k = 0; k < numKeys && fixed; ++k) {
+                    if (assignment[k] != -1 && symmetry[k] != k) fixed = false;
+                }
+                if (fixed) stabilizers[count++] = symmetry;
+            }
+            return count;
+        }
+
+        /**
+         * Checks whether a key is the lowest one of the keys that the stabilizers can exchange it with.
+         *
+         * @param key            Key to check.
+         * @param numStabilizers Number of stabilizers found for the node.
+         * @return True if no stabilizer moves the key to a lower one, false otherwise.
+         */
+        private boolean isCanonical(int key, int numStabilizers) {
+            for (int s = 0; s < numStabilizers; ++s) {
+                if (stabilizers[s][key] < key) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Checks whether placing a letter on the next key keeps an assignment built key by key not greater than any
+         * of its symmetric copies. The copy of a symmetry has on every key k the letter of the key symmetry[k], and
+         * letters are compared by their class of interchangeable letters. The keys are compared in order until the
+         * copy reaches a key that is still empty, so only assignments that every completion makes greater than a
+         * copy are rejected.
+         *
+         * @param assignment Letter assigned to each key, with the keys before the next one occupied.
+         * @param key        Next key, where the letter is placed.
+         * @param letter     Letter to place.
+         * @return False if some symmetric copy is already smaller, true otherwise.
+         */
+        private boolean isLexLeader(byte[] assignment, int key, int letter) {
+            for (int[] symmetry : symmetries) {
+                for (int k = 0; k <= key && symmetry[k] <= key; ++k) {
+                    int original = k == key ? letter : assignment[k];
+                    int image = symmetry[k] == key ? letter : assignment[symmetry[k]];
+                    if (letterClasses[image] != letterClasses[original]) {
+                        if (letterClasses[image] < letterClasses[original]) return false;
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Places a letter on a key of a node. If the result completes the assignment it is offered as a solution,
+         * otherwise it is added to the children if its lower bound can still improve the best cost.
+         *
+         * @param node     Node being expanded.
+         * @param letter   Letter to place.
+         * @param key      Key where the letter is placed.
+         * @param complete Whether placing the letter completes the assignment.
+         * @param children List where the child is added.
+         */
+        private void addChild(Node node, int letter, int key, boolean complete, ArrayList<Node> children) {
+            double partialCost = node.partialCost + placementCost(letter, key);
+            double bound;
+            if (complete) {
+                bound = partialCost;
+            } else {
+                keyOfLetter[letter] = key;
+                bound = lowerBound.calculate(keyOfLetter);
+                keyOfLetter[letter] = -1;
+            }
+            if (bound < getBestCost()) {
+                byte[] assignment = node.assignment.clone();
+                assignment[key] = (byte) letter;
+                if (complete) {
+                    offerSolution(bound, assignment);
+                } else {
+                    long[] usedLetters = node.usedLetters.clone();
+                    usedLetters[letter >>> 6] |= 1L << letter;
+                    children.add(new Node(node.level + 1, assignment, usedLetters, partialCost, bound));
+                }
+            }
+        }
+
+        /**
+         * Calculates the cost added by placing a letter on a key, given the letters already placed.
+         *
+         * @param letter Letter to place.
+         * @param key    Key where the letter is placed.
+         * @return Cost between the letter and every placed letter.
+         */
+        private double placementCost(int letter, int key) {
+            double cost = selfFlows[letter] * distances[key][key];
+            for (int l = 0; l < numLetters; ++l) {
+                if (keyOfLetter[l] != -1) cost += flows[letter][l] * distances[key][keyOfLetter[l]];
+            }
+            return cost;
+        }
+    }
+
+    /**
+     * Inner class representing the exploration of a subtree in the work-stealing pool.
+     * The subtree is explored depth first, and children are forked as new tasks while the pool is short of work.
+     */
+    private class SubtreeTask extends RecursiveAction {
+        /** Version of the serialized form of the task, which ForkJoinTask makes serializable. */
+        private static final long serialVersionUID = 1L;
+        /** Root of the subtree. */
+        private final Node node;
+
+        /**
+         * Constructor for the SubtreeTask class.
+         *
+         * @param node Root of the subtree.
+         */
+        SubtreeTask(Node node) {
+            this.node = node;
+        }
+
+        /**
+         * Explores the subtree depth first, visiting the children with the lowest bound first, and waits for the
+         * tasks forked from it. While there are few queued tasks, children are forked to be explored by other
+         * threads, and the rest are kept in a stack.
+         */
+        @Override
+        protected void compute() {
+            Worker worker = workers.get();
+            ArrayList<SubtreeTask> forked = new ArrayList<>();
+            ArrayDeque<Node> pending = new ArrayDeque<>();
+            pending.push(node);
+            while (!pending.isEmpty()) {
+                Node next = pending.pop();
+                ArrayList<Node> children = next.cost < getBestCost() ? worker.branchAndBound(next) : new ArrayList<>();
+                Collections.sort(children);
+                if (checkpointHandler != null) {
+                    // The children replace their parent in a single step, so a checkpoint holds every live node once
+                    synchronized (liveNodes) {
+                        liveNodes.remove(next);
+                        liveNodes.addAll(children);
+                    }
+                }
+                ArrayList<Node> kept = new ArrayList<>();
+                for (Node child : children) {
+                    if (getSurplusQueuedTaskCount() < SURPLUS_TASKS) {
+                        SubtreeTask task = new SubtreeTask(child);
+                        task.fork();
+                        forked.add(task);
+                    } else {
+                        kept.add(child);
+                    }
+                }
+                for (int c = kept.size() - 1; c >= 0; --c) pending.push(kept.get(c));
+            }
+            for (SubtreeTask task : forked) task.join();
+        }
+    }
+
+    /**
+     * Checks whether a letter is marked in a bitset of letters.
+     *
+     * @param bitset Bitset of letters.
+     * @param letter Letter to check.
+     * @return True if the letter is in the bitset, false otherwise.
+     */
+    private static boolean isUsed(long[] bitset, int letter) {
+        return (bitset[letter >>> 6] & (1L << letter)) != 0;
+    }
+
+    /**
+     * Inner class representing a node in the search tree.
+     * Implements the Comparable interface to order the nodes by their cost.
+     */
+    private static class Node implements Comparable<Node> {
+        /** Level of the node in the tree. */
+        final int level;
+
+        /** Letter assigned to each key, or -1 if the key is empty. */
+        final byte[] assignment;
+
+        /** Bitset of the letters already placed. */
+        final long[] usedLetters;
+
+        /** Exact cost of the letters already placed. */
+        final double partialCost;
+
+        /** Estimated cost of the node. */
+        final double cost;
+
+        /**
+         * Constructor for the Node class.
+         *
+         * @param level       Level of the node in the tree.
+         * @param assignment  Letter assigned to each key. The array is not copied.
+         * @param usedLetters Bitset of the letters already placed. The array is not copied.
+         * @param partialCost Exact cost of the letters already placed.
+         * @param cost        Estimated cost of the node.
+         */
+        Node(int level, byte[] assignment, long[] usedLetters, double partialCost, double cost) {
+            this.level = level;
+            this.assignment = assignment;
+            this.usedLetters = usedLetters;
+            this.partialCost = partialCost;
+            this.cost = cost;
+        }
+
+        /**
+         * Method to compare two nodes by their cost.
+         *
+         * @param other The other node to compare with.
+         * @return A negative value if this node's cost is less than the other's, zero if they are equal, or a positive value if it is greater.
+         */
+        @Override
+        public int compareTo(Node other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package Domain;
+
+/**
+ * Class that represents the state of a Branch and Bound search at some moment, so that it can be resumed later.
+ * It holds the best assignment found so far and the live nodes of the search tree, whose subtrees contain every
+ * assignment that can still improve it.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class BranchAndBoundCheckpoint {
+    /** Identifier of the problem being solved, to reject checkpoints of a different one. */
+    private final int problemId;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Best cost found when the checkpoint was taken, or Double.MAX_VALUE if there is none. */
+    private final double bestCost;
+    /** Best assignment found when the checkpoint was taken, indexed by key, or null if there is none. */
+    private final byte[] bestLayout;
+    /** Assignments of the live nodes, one after the other, with numKeys letters each. */
+    private final byte[] assignments;
+    /** Exact cost of the letters already placed in each live node. */
+    private final double[] partialCosts;
+    /** Lower bound of each live node. */
+    private final double[] costs;
+
+    /**
+     * Constructor for the BranchAndBoundCheckpoint class.
+     *
+     * @param problemId    Identifier of the problem being solved.
+     * @param numKeys      Number of keys on the keyboard.
+     * @param bestCost     Best cost found, or Double.MAX_VALUE if there is none.
+     * @param bestLayout   Best assignment found, indexed by key, or null if there is none.
+     * @param assignments  Assignments of the live nodes, one after the other, with numKeys letters each.
+     * @param partialCosts Exact cost of the letters already placed in each live node.
+     * @param costs        Lower bound of each live node.
+     */
+    public BranchAndBoundCheckpoint(int problemId, int numKeys, double bestCost, byte[] bestLayout,
+                                    byte[] assignments, double[] partialCosts, double[] costs) {
+        this.problemId = problemId;
+        this.numKeys = numKeys;
+        this.bestCost = bestCost;
+        this.bestLayout = bestLayout;
+        this.assignments = assignments;
+        this.partialCosts = partialCosts;
+        this.costs = costs;
+    }
+
+    /**
+     * Gets the identifier of the problem being solved.
+     *
+     * @return Identifier of the problem.
+     */
+    public int getProblemId() {
+        return problemId;
+    }
+
+    /**
+     * Gets the number of keys on the keyboard.
+     *
+     * @return Number of keys.
+     */
+    public int getNumKeys() {
+        return numKeys;
+    }
+
+    /**
+     * Gets the best cost found when the checkpoint was taken.
+     *
+     * @return Best cost, or Double.MAX_VALUE if there is none.
+     */
+    public double getBestCost() {
+        return bestCost;
+    }
+
+    /**
+     * Gets the best assignment found when the checkpoint was taken.
+     *
+     * @return Letter assigned to each key, or null if there is none.
+     */
+    public byte[] getBestLayout() {
+        return bestLayout;
+    }
+
+    /**
+     * Gets the number of live nodes of the search tree.
+     *
+     * @return Number of live nodes.
+     */
+    public int getNumNodes() {
+        return costs.length;
+    }
+
+    /**
+     * Gets the assignments of the live nodes.
+     *
+     * @return Assignments one after the other, with numKeys letters each.
+     */
+    public byte[] getAssignments() {
+        return assignments;
+    }
+
+    /**
+     * Gets the exact cost of the letters already placed in each live node.
+     *
+     * @return Partial cost of each node.
+     */
+    public double[] getPartialCosts() {
+        return partialCosts;
+    }
+
+    /**
+     * Gets the lower bound of each live node.
+     *
+     * @return Lower bound of each node.
+     */
+    public double[] getCosts() {
+        return costs;
+    }
+}
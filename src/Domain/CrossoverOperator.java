@@ -0,0 +1,57 @@
+package Domain;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface for the crossover operators of the evolutionary algorithm.
+ * Layouts are arrays with the letter assigned to each key, or -1 if the key is empty, like the assignments of
+ * {@link Algorithm}. The child of two layouts is always a layout with every letter on exactly one key.
+ * Operators keep reusable memory, so every thread needs its own instance.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public interface CrossoverOperator {
+    /**
+     * Crosses two layouts and writes the child.
+     *
+     * @param father Layout of the first parent.
+     * @param mother Layout of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the layout of the child is written, with one place for every key.
+     */
+    void crossover(int[] father, int[] mother, RandomGenerator random, int[] child);
+
+    /**
+     * Types of crossover operators that the evolutionary algorithm can use.
+     */
+    enum Type {
+        /** Takes every letter from the key it has in one of the parents, see {@link UniformCrossover}. */
+        UNIFORM,
+        /** Partially mapped crossover, see {@link PartiallyMappedCrossover}. */
+        PMX,
+        /** Order crossover, see {@link OrderCrossover}. */
+        ORDER,
+        /** Cycle crossover, see {@link CycleCrossover}. */
+        CYCLE;
+
+        /**
+         * Creates an operator of this type.
+         *
+         * @param numLetters  Number of letters of the alphabet.
+         * @param numKeys     Number of keys on the keyboard.
+         * @param probability Probability of taking every letter from the first parent, used by the uniform crossover.
+         * @return A new operator.
+         */
+        public CrossoverOperator create(int numLetters, int numKeys, double probability) {
+            switch (this) {
+                case PMX:
+                    return new PartiallyMappedCrossover(numLetters, numKeys);
+                case ORDER:
+                    return new OrderCrossover(numLetters, numKeys);
+                case CYCLE:
+                    return new CycleCrossover(numLetters, numKeys);
+                default:
+                    return new UniformCrossover(numLetters, probability);
+            }
+        }
+    }
+}
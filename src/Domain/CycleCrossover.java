@@ -0,0 +1,55 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Cycle crossover (CX).
+ * The keys are split into the cycles of the mapping between both parents: the letter of a key in the second parent
+ * is on another key in the first parent, and so on until the first key is reached again. Every cycle is copied
+ * whole from one of the parents, chosen at random, so every letter of the child is on the key it has in a parent.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class CycleCrossover extends PermutationCrossover {
+    /** Position of every element in the first parent. */
+    private final int[] firstPositions;
+    /** Whether every position already belongs to a cycle. */
+    private final boolean[] visited;
+
+    /**
+     * Constructor for the CycleCrossover class.
+     *
+     * @param numLetters Number of letters of the alphabet.
+     * @param numKeys    Number of keys on the keyboard.
+     */
+    public CycleCrossover(int numLetters, int numKeys) {
+        super(numLetters, numKeys);
+        this.firstPositions = new int[numKeys];
+        this.visited = new boolean[numKeys];
+    }
+
+    /**
+     * Crosses two permutations and writes the child permutation.
+     *
+     * @param first  Permutation of the first parent.
+     * @param second Permutation of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the child permutation is written.
+     */
+    @Override
+    protected void crossPermutations(int[] first, int[] second, RandomGenerator random, int[] child) {
+        int size = first.length;
+        for (int k = 0; k < size; ++k) firstPositions[first[k]] = k;
+        Arrays.fill(visited, false);
+        for (int start = 0; start < size; ++start) {
+            if (visited[start]) continue;
+            int[] parent = random.nextBoolean() ? first : second;
+            int k = start;
+            do {
+                visited[k] = true;
+                child[k] = parent[k];
+                k = firstPositions[second[k]];
+            } while (k != start);
+        }
+    }
+}
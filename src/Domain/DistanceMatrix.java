@@ -1,67 +1,154 @@
-package Domain;
-
-import java.util.ArrayList;
-import java.lang.Math;
-
-/**
- * Class that represents a distance matrix and provides operations related to it.
- * @author Esther Lozano
- */
-public class DistanceMatrix {
-    /** Distance matrix represented as a list of lists of decimal numbers. */
-    public ArrayList<ArrayList<Double>> matrix;
-
-    /**
-     * Constructor of the DistanceMatrix class. Initializes the distance matrix as an empty list.
-     */
-    public DistanceMatrix() {
-        this.matrix = new ArrayList<>();
-    }
-
-    /**
-     * Initializes the matrix with the size of the keyboard keys and fills it with zeros.
-     *
-     * @param numRows Number of rows of the keyboard.
-     * @param numCols Number of columns of the keyboard.
-     */
-    public void initializeMatrix(int numRows, int numCols) {
-        this.matrix = new ArrayList<>();
-        for(int i = 0; i < numRows * numCols; ++i) {
-            ArrayList<Double> row = new ArrayList<>();
-            for(int j = 0; j < numRows * numCols; j++) {
-                row.add(0.0);
-            }
-            this.matrix.add(row);
-        }
-    }
-
-    /**
-     * Calculates the distance matrix based on the number of rows and columns in the keyboard layout.
-     *
-     * @param numRows Number of rows in the keyboard layout.
-     * @param numCols Number of columns in the keyboard layout.
-     */
-    public void calculateDistanceMatrix(int numRows, int numCols) {
-        int numKeys = numRows * numCols;
-
-        for (int i = 0; i < numKeys; ++i) {
-            // Calculation of the row and column of the first key
-            int actual_row_t1 = i / numCols;
-            int actual_col_t1 = i % numCols;
-            for (int j = 0; j < numKeys; ++j) {
-                // Calculation of the row and column of the second key
-                int actual_row_t2 = j / numCols;
-                int actual_col_t2 = j % numCols;
-
-                if (i == j) {
-                    matrix.get(i).set(j, 0.0);
-                } else if (j > i) {
-                    // Calculation of the distance between key 1 and key 2 = sqrt(|t2.x-t1.x|^2+|t2.y-t1.y|^2)
-                    double dis_t1_t2 = Math.sqrt(Math.pow(Math.abs(actual_row_t2 - actual_row_t1), 2) + Math.pow(Math.abs(actual_col_t2 - actual_col_t1), 2));
-                    matrix.get(i).set(j, dis_t1_t2);
-                    matrix.get(j).set(i, dis_t1_t2);
-                }
-            }
-        }
-    }
-}
+package Domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.lang.Math;
+
+/**
+ * Class that represents a distance matrix and provides operations related to it.
+ * @author Esther Lozano
+ */
+public class DistanceMatrix {
+    /** Distance matrix represented as a list of lists of decimal numbers. */
+    public ArrayList<ArrayList<Double>> matrix;
+
+    /**
+     * Constructor of the DistanceMatrix class. Initializes the distance matrix as an empty list.
+     */
+    public DistanceMatrix() {
+        this.matrix = new ArrayList<>();
+    }
+
+    /**
+     * Initializes the matrix with the size of the keyboard keys and fills it with zeros.
+     *
+     * @param numRows Number of rows of the keyboard.
+     * @param numCols Number of columns of the keyboard.
+     */
+    public void initializeMatrix(int numRows, int numCols) {
+        this.matrix = new ArrayList<>();
+        for(int i = 0; i < numRows * numCols; ++i) {
+            ArrayList<Double> row = new ArrayList<>();
+            for(int j = 0; j < numRows * numCols; j++) {
+                row.add(0.0);
+            }
+            this.matrix.add(row);
+        }
+    }
+
+    /**
+     * Calculates the distance matrix based on the number of rows and columns in the keyboard layout.
+     *
+     * @param numRows Number of rows in the keyboard layout.
+     * @param numCols Number of columns in the keyboard layout.
+     */
+    public void calculateDistanceMatrix(int numRows, int numCols) {
+        int numKeys = numRows * numCols;
+
+        for (int i = 0; i < numKeys; ++i) {
+            // Calculation of the row and column of the first key
+            int actual_row_t1 = i / numCols;
+            int actual_col_t1 = i % numCols;
+            for (int j = 0; j < numKeys; ++j) {
+                // Calculation of the row and column of the second key
+                int actual_row_t2 = j / numCols;
+                int actual_col_t2 = j % numCols;
+
+                if (i == j) {
+                    matrix.get(i).set(j, 0.0);
+                } else if (j > i) {
+                    // Calculation of the distance between key 1 and key 2 = sqrt(|t2.x-t1.x|^2+|t2.y-t1.y|^2)
+                    double dis_t1_t2 = Math.sqrt(Math.pow(Math.abs(actual_row_t2 - actual_row_t1), 2) + Math.pow(Math.abs(actual_col_t2 - actual_col_t1), 2));
+                    matrix.get(i).set(j, dis_t1_t2);
+                    matrix.get(j).set(i, dis_t1_t2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the matrix as a primitive array, for use in the inner loops of the algorithms.
+     *
+     * @return Square array with the distance between every pair of keys.
+     */
+    public double[][] toArray() {
+        double[][] array = new double[matrix.size()][matrix.size()];
+        for (int i = 0; i < matrix.size(); ++i) {
+            for (int j = 0; j < matrix.size(); ++j) {
+                array[i][j] = matrix.get(i).get(j);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Finds the symmetries of the keyboard, which are the permutations of the keys that keep every distance equal.
+     * A rectangular grid is unchanged by horizontal and vertical reflection, and a square one also by
+     * transposition. Every candidate is checked against the matrix, so only true symmetries are returned, and
+     * they are closed under composition.
+     *
+     * @return List of permutations of the keys, where position i is the key that replaces key i. The identity is
+     * always the first one.
+     */
+    public ArrayList<int[]> symmetries() {
+        int numKeys = matrix.size();
+        ArrayList<int[]> generators = new ArrayList<>();
+        for (int numRows = 1; numRows <= numKeys; ++numRows) {
+            if (numKeys % numRows != 0) continue;
+            int numCols = numKeys / numRows;
+            for (int type = 1; type < 8; ++type) {
+                if (type >= 4 && numRows != numCols) break;
+                int[] candidate = new int[numKeys];
+                for (int i = 0; i < numKeys; ++i) {
+                    int row = i / numCols;
+                    int col = i % numCols;
+                    if ((type & 1) != 0) row = numRows - 1 - row;
+                    if ((type & 2) != 0) col = numCols - 1 - col;
+                    candidate[i] = (type & 4) != 0 ? col * numCols + row : row * numCols + col;
+                }
+                if (isSymmetry(candidate)) generators.add(candidate);
+            }
+        }
+        ArrayList<int[]> group = new ArrayList<>();
+        int[] identity = new int[numKeys];
+        for (int i = 0; i < numKeys; ++i) identity[i] = i;
+        group.add(identity);
+        // Compositions of symmetries are also symmetries, so the list is completed until it is closed
+        for (int a = 0; a < group.size(); ++a) {
+            for (int[] generator : generators) {
+                int[] composition = new int[numKeys];
+                for (int i = 0; i < numKeys; ++i) composition[i] = group.get(a)[generator[i]];
+                addSymmetry(group, composition);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * Checks whether a permutation of the keys keeps every distance equal.
+     *
+     * @param permutation Permutation of the keys.
+     * @return True if the distance between every pair of keys is the same after the permutation, false otherwise.
+     */
+    private boolean isSymmetry(int[] permutation) {
+        for (int i = 0; i < matrix.size(); ++i) {
+            for (int j = i + 1; j < matrix.size(); ++j) {
+                if (!matrix.get(i).get(j).equals(matrix.get(permutation[i]).get(permutation[j]))) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a symmetry to a list if it is not already there.
+     *
+     * @param group    List of symmetries.
+     * @param symmetry Symmetry to add.
+     */
+    private static void addSymmetry(ArrayList<int[]> group, int[] symmetry) {
+        for (int[] g : group) {
+            if (Arrays.equals(g, symmetry)) return;
+        }
+        group.add(symmetry);
+    }
+}
@@ -1,253 +1,742 @@
-package Domain;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
-
-/**
- * Class that implements an evolutionary algorithm for optimal key assignment on a keyboard.
- * It is a subclass of {@link Algorithm}.
- * Uses the approach of evolutionary algorithms to solve the problem of optimal key assignment.
- * Inherits from {@link Algorithm} and provides specific implementations for the evolutionary algorithm.
- * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
- */
-public class Evolutive extends Algorithm {
-    /** Crossover probability in the genetic algorithm. */
-    private static final double CROSSOVER_PROBABILITY = 0.5;
-    /** Probability of crossover followed by mutation. */
-    private static final double CROSSOVER_THEN_MUTATION_PROBABILITY = 0.7;
-    /** Probability of permutation in the genetic algorithm. */
-    private static final double PERMUTATION_PROBABILITY = 0.4;
-    /** Probability of inversion in the genetic algorithm. */
-    private static final double INVERSION_PROBABILITY = 0.2;
-    /** Maximum number of individuals in the population. */
-    private static final int MAXIMUM_POPULATION = 100;
-    /** Maximum number of generations to run the algorithm. */
-    private static final int MAXIMUM_GENERATION = 300;
-    /** Random number generator for stochastic operations. */
-    private static Random random;
-    /** Current population of individuals in the evolutionary algorithm. */
-    private ArrayList<Individual> population;
-
-    /**
-     * Constructor for the evolutionary algorithm.
-     *
-     * @param dm Distance matrix.
-     * @param fm Flow matrix.
-     */
-    public Evolutive(DistanceMatrix dm, FlowMatrix fm) {
-        super(dm, fm);
-        random = new Random();
-    }
-
-    /**
-     * Constructor for the evolutionary algorithm with a seed for random number generation.
-     *
-     * @param dm   Distance matrix.
-     * @param fm   Flow matrix.
-     * @param seed Seed for random number generation.
-     */
-    public Evolutive(DistanceMatrix dm, FlowMatrix fm, long seed) {
-        super(dm, fm);
-        random = new Random(seed);
-    }
-
-    /**
-     * Implements the solve method of the base class to execute the evolutionary algorithm.
-     */
-    @Override
-    public void solve() {
-        iniPopulation();
-        int h = 0;
-        while(h <= MAXIMUM_GENERATION) {
-            evolutePopulation();
-            ++h;
-        }
-        this.bestAssignment = this.population.get(0).layout;
-    }
-
-    /**
-     * Initializes the population for the evolutionary algorithm.
-     */
-    private void iniPopulation() {
-        this.population = new ArrayList<>();
-        for (int i = 0; i < MAXIMUM_POPULATION; i++) {
-            ArrayList<Integer> layout = generateLayout(distanceMatrix.matrix.size());
-            Individual individual = new Individual(layout, flowMatrix.matrix.size(), distanceMatrix.matrix.size());
-            this.population.add(individual);
-        }
-    }
-
-    /**
-     * Generates a random keyboard layout.
-     *
-     * @param size The size of the flow matrix.
-     * @return An ArrayList of integers representing the keyboard layout.
-     */
-    private ArrayList<Integer> generateLayout(int size) {
-        ArrayList<Integer> layout = new ArrayList<>();
-        for (int i = 0; i < flowMatrix.matrix.size(); i++) {
-            layout.add(i);
-        }
-        for (int i = flowMatrix.matrix.size(); i < size; i++) {
-            layout.add(-1);
-        }
-        Collections.shuffle(layout, random);
-        return layout;
-    }
-
-    /**
-     * Evolves the population through crossover, mutation, permutation, and inversion operations.
-     */
-    private void evolutePopulation() {
-        ArrayList<Individual> newPopulation = new ArrayList<>();
-        while (newPopulation.size() <= MAXIMUM_POPULATION) {
-            for (int i = 0; i < this.population.size(); ++i) {
-                int n = random.nextInt(MAXIMUM_POPULATION);
-                while (n == i) n = random.nextInt(MAXIMUM_POPULATION);
-                Individual son;
-                if (random.nextDouble() <= CROSSOVER_THEN_MUTATION_PROBABILITY) {
-                    son = this.population.get(i).crossover(this.population.get(n));
-                    if (random.nextDouble() <= PERMUTATION_PROBABILITY) son.swapPositions();
-                    if (random.nextDouble() <= INVERSION_PROBABILITY) son.inversionLayout();
-                    son.calculateFitness(distanceMatrix, flowMatrix);
-                    newPopulation.add(son);
-                }
-            }
-        }
-        ArrayList<Individual> allPopulation = new ArrayList<>(newPopulation);
-        allPopulation.addAll(population);
-        allPopulation.sort(Individual::compareTo);
-        this.population = new ArrayList<>(allPopulation.subList(0, MAXIMUM_POPULATION));
-    }
-
-    /**
-     * Inner class representing an individual in the population of the evolutionary algorithm.
-     */
-    private static class Individual {
-        /**
-         * Keyboard layout represented as a list of integers.
-         */
-        public ArrayList<Integer> layout;
-
-        /**
-         * Total number of keys on the keyboard.
-         */
-        public int numKeys;
-
-        /**
-         * Total number of letters assigned on the keyboard.
-         */
-        public int numLetters;
-
-        /**
-         * Fitness or cost associated with this keyboard layout.
-         */
-        public double fitness;
-
-        /**
-         * Constructor to create a new individual.
-         * Initializes the individual with a specific keyboard layout and sets the number of letters and keys.
-         *
-         * @param l    List of integers representing the keyboard layout. Each integer represents a specific key.
-         * @param numL Total number of letters to be assigned on the keyboard.
-         * @param numK Total number of keys available on the keyboard.
-         */
-        Individual(ArrayList<Integer> l, int numL, int numK) {
-            this.layout = l;
-            this.numLetters = numL;
-            this.numKeys = numK;
-        }
-
-        /**
-         * Calculates the fitness of the individual based on the distance and flow matrices.
-         *
-         * @param distanceMatrix Distance matrix.
-         * @param flowMatrix     Flow matrix.
-         */
-        public void calculateFitness(DistanceMatrix distanceMatrix, FlowMatrix flowMatrix) {
-            double cost = 0;
-            for (int t1 = 0; t1 < numKeys; t1++) {
-                for (int t2 = 0; t2 < numKeys; t2++) {
-                    int x = this.layout.get(t1);
-                    int y = this.layout.get(t2);
-                    if (x != -1 && y != -1) {
-                        cost += distanceMatrix.matrix.get(t1).get(t2) * flowMatrix.matrix.get(x).get(y);
-                    }
-                }
-            }
-            this.fitness = cost;
-        }
-
-        /**
-         * Performs genetic crossover between this individual and another, creating an offspring.
-         *
-         * @param partner Another individual to cross with.
-         * @return A new individual resulting from the crossover.
-         */
-        public Individual crossover(Individual partner) {
-            ArrayList<Integer> child = new ArrayList<>(Collections.nCopies(layout.size(), -1));
-            for (int i = 0; i < numLetters; i++) {
-                if (random.nextDouble() <= CROSSOVER_PROBABILITY) {
-                    if (child.get(layout.indexOf(i)).equals(-1)) {
-                        child.set(layout.indexOf(i), i);
-                    } else {
-                        int j = layout.indexOf(i);
-                        while (j < child.size() - 1 && !child.get(j).equals(-1)) {
-                            ++j;
-                        }
-                        if (child.get(j).equals(-1)) {
-                            child.set(j, i);
-                        }
-                    }
-                } else {
-                    if (child.get(partner.layout.indexOf(i)).equals(-1)) {
-                        child.set(partner.layout.indexOf(i), i);
-                    } else {
-                        int j = partner.layout.indexOf(i);
-                        while (j < child.size() - 1 && !child.get(j).equals(-1)) {
-                            ++j;
-                        }
-                        if (child.get(j).equals(-1)) {
-                            child.set(j, i);
-                        }
-                    }
-                }
-            }
-            return new Individual(child, numLetters, numKeys);
-        }
-
-        /**
-         * Performs a swap position operation on this individual's keyboard layout.
-         */
-        public void swapPositions() {
-            int size = layout.size();
-            int position1 = random.nextInt(size);
-            int position2 = random.nextInt(size);
-            while (position2 == position1) {
-                position2 = random.nextInt(size);
-            }
-            int x = layout.get(position1);
-            int y = layout.get(position2);
-            this.layout.set(position1, y);
-            this.layout.set(position2, x);
-        }
-
-        /**
-         * Inverts this individual's keyboard layout.
-         */
-        public void inversionLayout() {
-            Collections.reverse(this.layout);
-        }
-
-        /**
-         * Compares this individual to another in terms of fitness.
-         *
-         * @param other Another individual to compare.
-         * @return An integer value indicating the comparison.
-         */
-        public int compareTo(Individual other) {
-            return Double.compare(this.fitness, other.fitness);
-        }
-    }
-}
+package Domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class that implements an evolutionary algorithm for optimal key assignment on a keyboard.
+ * It is a subclass of {@link Algorithm}.
+ * Uses the approach of evolutionary algorithms to solve the problem of optimal key assignment.
+ * Inherits from {@link Algorithm} and provides specific implementations for the evolutionary algorithm.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class Evolutive extends Algorithm {
+    /** Parameters of the genetic algorithm and its stopping criteria. */
+    private EvolutiveConfig config;
+    /** Random number generator for stochastic operations. */
+    private final Random random;
+    /** Generator from which the random streams of the islands are split in the island mode. */
+    private final SplittableRandom streams;
+    /** Number of threads that create and score the offspring. */
+    private int parallelism;
+    /** Number of populations that evolve independently in the island mode, or 1 to use a single population. */
+    private int numIslands;
+    /** Topology of the migrations between islands. */
+    private MigrationTopology topology;
+    /** Number of generations between two migrations. */
+    private int migrationInterval;
+    /** Number of individuals that every island sends in each migration. */
+    private int numMigrants;
+    /** Lowest letter of the class of interchangeable letters of every letter. */
+    private final int[] letterClasses;
+    /** Letters of every class of interchangeable letters in ascending order, indexed by the lowest one. */
+    private final int[][] classMembers;
+    /** Whether some letters are interchangeable, so layouts have to be written in canonical form. */
+    private final boolean hasInterchangeableLetters;
+    /** Distance between every pair of keys. */
+    private final double[][] distances;
+    /** Flow between every pair of letters. */
+    private final double[][] flows;
+    /** Whether reversing a layout keeps its cost, because the keyboard is symmetric under the reversal. */
+    private final boolean reversalKeepsCost;
+    /** Local search that improves the offspring in the memetic mode. */
+    private final LocalSearch localSearch;
+    /** Random number of every letter on every key, whose exclusive or over the letters is the hash of a layout. */
+    private final long[][] zobrist;
+
+    /**
+     * Constructor for the evolutionary algorithm.
+     *
+     * @param dm Distance matrix.
+     * @param fm Flow matrix.
+     */
+    public Evolutive(DistanceMatrix dm, FlowMatrix fm) {
+        this(dm, fm, new Random(), new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the evolutionary algorithm with a seed for random number generation.
+     *
+     * @param dm   Distance matrix.
+     * @param fm   Flow matrix.
+     * @param seed Seed for random number generation.
+     */
+    public Evolutive(DistanceMatrix dm, FlowMatrix fm, long seed) {
+        this(dm, fm, new Random(seed), new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for the evolutionary algorithm with a given random number generator.
+     *
+     * @param dm Distance matrix.
+     * @param fm Flow matrix.
+     * @param r  Random number generator.
+     * @param s  Generator of the random streams of the parallel mode.
+     */
+    private Evolutive(DistanceMatrix dm, FlowMatrix fm, Random r, SplittableRandom s) {
+        super(dm, fm);
+        random = r;
+        streams = s;
+        config = new EvolutiveConfig();
+        parallelism = 1;
+        numIslands = 1;
+        topology = MigrationTopology.RING;
+        migrationInterval = 25;
+        numMigrants = 2;
+        letterClasses = fm.interchangeableClasses();
+        int numLetters = letterClasses.length;
+        int[] classSizes = new int[numLetters];
+        for (int letter : letterClasses) ++classSizes[letter];
+        classMembers = new int[numLetters][];
+        boolean interchangeable = false;
+        for (int c = 0; c < numLetters; ++c) {
+            classMembers[c] = new int[classSizes[c]];
+            if (classSizes[c] > 1) interchangeable = true;
+        }
+        Arrays.fill(classSizes, 0);
+        for (int letter = 0; letter < numLetters; ++letter) {
+            int c = letterClasses[letter];
+            classMembers[c][classSizes[c]++] = letter;
+        }
+        hasInterchangeableLetters = interchangeable;
+        distances = dm.toArray();
+        flows = fm.toArray();
+        boolean symmetric = true;
+        int numKeys = distances.length;
+        for (int a = 0; a < numKeys && symmetric; ++a) {
+            for (int b = 0; b < numKeys && symmetric; ++b) {
+                if (distances[a][b] != distances[numKeys - 1 - a][numKeys - 1 - b]) symmetric = false;
+            }
+        }
+        reversalKeepsCost = symmetric;
+        localSearch = new LocalSearch(dm, fm);
+        // The numbers do not depend on the seed, so they do not change the random numbers of the algorithm
+        SplittableRandom zobristRandom = new SplittableRandom(numLetters * 31L + numKeys);
+        zobrist = new long[numLetters][numKeys];
+        for (long[] keys : zobrist) {
+            for (int k = 0; k < numKeys; ++k) keys[k] = zobristRandom.nextLong();
+        }
+    }
+
+    /**
+     * Sets the parameters of the genetic algorithm and its stopping criteria.
+     * The configuration is read when the algorithm is solved, so it must not be changed while it is running.
+     *
+     * @param config Parameters of the algorithm.
+     */
+    public void setConfig(EvolutiveConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Sets the number of threads that score the offspring of every generation.
+     * The random choices of a generation, which are the parents, the crossovers and the mutations, are drawn by one
+     * thread in the same order as in the sequential mode. Then every thread calculates the fitness of its share of
+     * the offspring and applies their mutations and local search, which draw no random numbers. The result for a
+     * given seed is the same whatever the number of threads.
+     *
+     * @param parallelism Number of threads. Values lower than 1 are treated as 1, and values greater than the size
+     *                    of the population are treated as that size.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Sets the number of populations that evolve independently, each one on its own thread.
+     * Every few generations the best individuals of each island migrate to another one (see
+     * {@link #setMigration}), and the result is the best individual of all the islands. Each island has its own
+     * random stream split from the seed, so the result is reproducible for a given seed and number of islands.
+     * The island mode takes precedence over the parallel breeding of {@link #setParallelism}.
+     *
+     * @param numIslands Number of islands. Values lower than 1 are treated as 1, which uses a single population.
+     */
+    public void setIslands(int numIslands) {
+        this.numIslands = Math.max(1, numIslands);
+    }
+
+    /**
+     * Sets how individuals migrate between islands in the island mode.
+     * With the ring topology every island sends its best individuals to the next one. With the random topology
+     * every island sends them to another island chosen at random in each migration. The individuals received
+     * replace the worst ones of the island.
+     *
+     * @param topology   Topology of the migrations.
+     * @param interval   Number of generations between two migrations. Values lower than 1 are treated as 1.
+     * @param numMigrants Number of individuals that every island sends. Values are kept between 0 and the size of
+     *                   the population minus one.
+     */
+    public void setMigration(MigrationTopology topology, int interval, int numMigrants) {
+        this.topology = topology;
+        this.migrationInterval = Math.max(1, interval);
+        this.numMigrants = Math.max(0, numMigrants);
+    }
+
+    /**
+     * Implements the solve method of the base class to execute the evolutionary algorithm.
+     * It runs until the maximum number of generations, or until the time limit or the stagnation limit of the
+     * configuration is reached.
+     */
+    @Override
+    public void solve() {
+        Population population = solvePopulation();
+        this.bestAssignment = new ArrayList<>();
+        for (int letter : population.best().getLayout()) this.bestAssignment.add(letter);
+    }
+
+    /**
+     * Evolves the population, or the islands in the island mode, until one of the stopping criteria is met.
+     *
+     * @return Final population, sorted by fitness. In the island mode, the island with the best individual.
+     */
+    Population solvePopulation() {
+        long start = System.nanoTime();
+        Population population;
+        if (numIslands > 1) {
+            population = solveIslands(start);
+        } else if (parallelism > 1) {
+            int workers = Math.min(parallelism, config.getPopulationSize());
+            Breeder breeder = newBreeder(random, workers);
+            population = iniPopulation(breeder);
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                List<Callable<Void>> tasks = scoringTasks(population, breeder);
+                evolve(population, p -> evolutePopulation(p, breeder, pool, tasks), start);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            Breeder breeder = newBreeder(random, 1);
+            population = iniPopulation(breeder);
+            evolve(population, p -> evolutePopulation(p, breeder, null, null), start);
+        }
+        return population;
+    }
+
+    /**
+     * Creates the random stream and reusable memory with which the offspring of a population are bred.
+     *
+     * @param r          Random number generator of the population.
+     * @param numScorers Number of threads that score the offspring.
+     * @return The breeder.
+     */
+    private Breeder newBreeder(RandomGenerator r, int numScorers) {
+        int numLetters = classMembers.length;
+        CrossoverOperator crossover = config.getCrossover().create(numLetters, distances.length,
+                config.getCrossoverProbability());
+        OperatorSelection operators = null;
+        if (config.isAdaptiveOperators()) {
+            operators = new OperatorSelection(config.getPermutationProbability() + config.getInversionProbability()
+                    + config.getSegmentInversionProbability());
+        }
+        return new Breeder(r, config.getPopulationSize(), numLetters, numScorers, crossover, operators);
+    }
+
+    /**
+     * Evolves a population generation after generation until one of the stopping criteria is met.
+     * At least one generation is evolved, so the population is always sorted at the end.
+     *
+     * @param population Initial population. It is evolved in place.
+     * @param generation Function that evolves a population to the next generation.
+     * @param start      Time when the algorithm started, as given by {@link System#nanoTime()}.
+     */
+    private void evolve(Population population, Consumer<Population> generation, long start) {
+        double bestFitness = Double.MAX_VALUE;
+        int stagnant = 0;
+        int h = 0;
+        while (h <= config.getMaxGenerations()) {
+            generation.accept(population);
+            if (population.best().getFitness() < bestFitness) {
+                bestFitness = population.best().getFitness();
+                stagnant = 0;
+            } else {
+                ++stagnant;
+            }
+            if (isStagnant(stagnant) || isTimeUp(start)) break;
+            ++h;
+        }
+    }
+
+    /**
+     * Checks if the best fitness has not improved for too many generations.
+     *
+     * @param stagnant Number of generations since the best fitness improved for the last time.
+     * @return true if the stagnation limit of the configuration is reached, false otherwise.
+     */
+    private boolean isStagnant(int stagnant) {
+        return config.getStagnationLimit() != 0 && stagnant >= config.getStagnationLimit();
+    }
+
+    /**
+     * Checks if the time limit has been reached.
+     *
+     * @param start Time when the algorithm started, as given by {@link System#nanoTime()}.
+     * @return true if the time limit of the configuration is reached, false otherwise.
+     */
+    private boolean isTimeUp(long start) {
+        long timeLimit = config.getTimeLimitMillis();
+        return timeLimit != 0 && System.nanoTime() - start >= timeLimit * 1000000L;
+    }
+
+    /**
+     * Evolves several populations in parallel, with migrations between them every few generations.
+     * The islands evolve on their own between two migrations, and the migrations are done by the calling thread
+     * in a fixed order, so the result does not depend on how the threads are scheduled. The stagnation limit is
+     * checked on the best individual of all the islands after every migration, and the time limit after every
+     * generation.
+     *
+     * @param start Time when the algorithm started, as given by {@link System#nanoTime()}.
+     * @return Population of the island with the best individual.
+     */
+    private Population solveIslands(long start) {
+        SplittableRandom migrationRandom = streams.split();
+        Breeder[] breeders = new Breeder[numIslands];
+        for (int k = 0; k < numIslands; ++k) breeders[k] = newBreeder(streams.split(), 1);
+        Population[] islands = new Population[numIslands];
+        ForkJoinPool pool = new ForkJoinPool(numIslands);
+        try {
+            int numGenerations = config.getMaxGenerations() + 1;
+            double bestFitness = Double.MAX_VALUE;
+            int stagnant = 0;
+            int generation = 0;
+            while (generation < numGenerations) {
+                int epoch = Math.min(migrationInterval, numGenerations - generation);
+                ArrayList<Callable<Void>> tasks = new ArrayList<>();
+                for (int k = 0; k < numIslands; ++k) {
+                    int island = k;
+                    tasks.add(() -> {
+                        Breeder breeder = breeders[island];
+                        if (islands[island] == null) islands[island] = iniPopulation(breeder);
+                        for (int h = 0; h < epoch; ++h) {
+                            evolutePopulation(islands[island], breeder, null, null);
+                            if (isTimeUp(start)) break;
+                        }
+                        return null;
+                    });
+                }
+                invokeAll(pool, tasks);
+                generation += epoch;
+                double epochFitness = Double.MAX_VALUE;
+                for (Population island : islands) epochFitness = Math.min(epochFitness, island.best().getFitness());
+                if (epochFitness < bestFitness) {
+                    bestFitness = epochFitness;
+                    stagnant = 0;
+                } else {
+                    stagnant += epoch;
+                }
+                if (isStagnant(stagnant) || isTimeUp(start)) break;
+                if (generation < numGenerations) migrate(islands, migrationRandom);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Population best = islands[0];
+        for (Population island : islands) {
+            if (island.best().getFitness() < best.best().getFitness()) best = island;
+        }
+        return best;
+    }
+
+    /**
+     * Sends copies of the best individuals of every island to another island, where they replace the worst ones.
+     *
+     * @param islands Sorted population of every island. They are modified in place.
+     * @param r       Random number generator used to choose the destinations in the random topology.
+     */
+    void migrate(Population[] islands, RandomGenerator r) {
+        int migrants = Math.min(numMigrants, config.getPopulationSize() - 1);
+        ArrayList<ArrayList<Individual>> arrivals = new ArrayList<>();
+        for (int k = 0; k < islands.length; ++k) arrivals.add(new ArrayList<>());
+        for (int k = 0; k < islands.length; ++k) {
+            int destination;
+            if (topology == MigrationTopology.RING) {
+                destination = (k + 1) % islands.length;
+            } else {
+                destination = r.nextInt(islands.length - 1);
+                if (destination >= k) ++destination;
+            }
+            for (int m = 0; m < migrants; ++m) arrivals.get(destination).add(islands[k].getIndividual(m).copy());
+        }
+        for (int k = 0; k < islands.length; ++k) {
+            Population island = islands[k];
+            List<Individual> arrived = arrivals.get(k);
+            // With the random topology an island can receive more individuals than it can replace
+            int replaced = Math.min(arrived.size(), island.size() - 1);
+            for (int m = 0; m < replaced; ++m) island.getIndividual(island.size() - 1 - m).copyFrom(arrived.get(m));
+            islands[k].selectSurvivors(false);
+        }
+    }
+
+    /**
+     * Initializes the population for the evolutionary algorithm.
+     *
+     * @param breeder Random stream and reusable memory of the population.
+     * @return Population of random individuals.
+     */
+    private Population iniPopulation(Breeder breeder) {
+        Population population = new Population(config.getPopulationSize(), distances.length, zobrist);
+        Scorer scorer = breeder.scorers[0];
+        for (int i = 0; i < population.size(); ++i) {
+            Individual individual = population.getIndividual(i);
+            generateLayout(individual.getLayout(), breeder.random);
+            if (hasInterchangeableLetters) canonicalize(individual.getLayout(), scorer.classCounts);
+            individual.updatePositions();
+            evaluate(individual, scorer.cache);
+        }
+        return population;
+    }
+
+    /**
+     * Generates a random keyboard layout.
+     * The letters are shuffled like {@link java.util.Collections#shuffle(List, Random)}, so a seed gives the same
+     * layouts.
+     *
+     * @param layout Array where the layout is written, with one place for every key.
+     * @param r      Random number generator.
+     */
+    private void generateLayout(int[] layout, RandomGenerator r) {
+        int size = layout.length;
+        for (int i = 0; i < size; i++) {
+            layout[i] = i < flowMatrix.matrix.size() ? i : -1;
+        }
+        for (int i = size; i > 1; i--) {
+            int j = r.nextInt(i);
+            int x = layout[i - 1];
+            layout[i - 1] = layout[j];
+            layout[j] = x;
+        }
+    }
+
+    /**
+     * Rewrites a layout so that the letters of every class of interchangeable letters appear in ascending order
+     * by key. The cost does not change, but layouts that only differ in the order of interchangeable letters
+     * become equal, so crossover combines parents that place them in the same way.
+     *
+     * @param layout      Keyboard layout. It is modified in place.
+     * @param classCounts Array with a place for every letter, used to count the letters of every class.
+     */
+    private void canonicalize(int[] layout, int[] classCounts) {
+        Arrays.fill(classCounts, 0);
+        for (int k = 0; k < layout.length; ++k) {
+            int letter = layout[k];
+            if (letter == -1) continue;
+            int c = letterClasses[letter];
+            layout[k] = classMembers[c][classCounts[c]++];
+        }
+    }
+
+    /**
+     * Evolves the population through crossover, mutation, permutation, and inversion operations.
+     * The offspring are written over the individuals of the offspring buffer, and the survivors are copied to the
+     * other buffer of the population, so no memory is allocated. All the random choices of the generation are drawn
+     * first, in the order of the offspring, and then the offspring are scored, in parallel if there is a pool.
+     *
+     * @param population Current population. It is evolved in place.
+     * @param breeder    Random stream and reusable memory of the population.
+     * @param pool       Pool of threads that score the offspring, or null to score them in the calling thread.
+     * @param tasks      Tasks of {@link #scoringTasks} that score the offspring in the pool, or null without a pool.
+     */
+    private void evolutePopulation(Population population, Breeder breeder, ForkJoinPool pool,
+                                   List<Callable<Void>> tasks) {
+        RandomGenerator r = breeder.random;
+        int populationSize = config.getPopulationSize();
+        while (population.getNumOffspring() <= populationSize) {
+            for (int i = 0; i < populationSize; ++i) {
+                int n = r.nextInt(populationSize);
+                while (n == i) n = r.nextInt(populationSize);
+                if (r.nextDouble() <= config.getCrossoverThenMutationProbability()) {
+                    breed(population, i, n, breeder, population.addOffspring());
+                }
+            }
+        }
+        if (pool == null) {
+            score(population, breeder, 0, 1);
+        } else {
+            invokeAll(pool, tasks);
+        }
+        if (breeder.operators != null) rewardOperators(population.getNumOffspring(), breeder);
+        population.selectSurvivors(config.isDuplicateElimination());
+    }
+
+    /**
+     * Creates the tasks that score the offspring of a population in parallel, one for every scorer of the breeder.
+     * Every task takes the offspring whose index is congruent with its own. Scoring draws no random numbers, and
+     * the fitness of an offspring does not depend on the cache of the thread that scores it, so the result does not
+     * depend on how the threads are scheduled, or on how many there are.
+     *
+     * @param population Population whose offspring are scored. The same tasks are used in every generation.
+     * @param breeder    Breeder of the population.
+     * @return Task of every thread.
+     */
+    private List<Callable<Void>> scoringTasks(Population population, Breeder breeder) {
+        int workers = breeder.scorers.length;
+        ArrayList<Callable<Void>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; ++w) {
+            int worker = w;
+            tasks.add(() -> {
+                score(population, breeder, worker, workers);
+                return null;
+            });
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a son of two individuals of the population by crossover, and draws the mutations that are applied to
+     * it when it is scored. The random numbers are drawn in the same order as if the mutations were applied at
+     * once.
+     *
+     * @param population Current population.
+     * @param i          Index of the first parent.
+     * @param n          Index of the second parent.
+     * @param breeder    Breeder of the population.
+     * @param j          Place of the son in the offspring buffer.
+     */
+    private void breed(Population population, int i, int n, Breeder breeder, int j) {
+        RandomGenerator r = breeder.random;
+        OperatorSelection operators = breeder.operators;
+        Individual son = population.getOffspring(j);
+        OffspringPlan plan = breeder.plans[j];
+        breeder.crossover.crossover(population.getIndividual(i).getLayout(), population.getIndividual(n).getLayout(),
+                r, son.getLayout());
+        plan.father = i;
+        plan.mother = n;
+        double swap;
+        double inversion;
+        double segmentInversion;
+        if (operators != null) {
+            swap = operators.getProbability(OperatorSelection.MutationOperator.SWAP);
+            inversion = operators.getProbability(OperatorSelection.MutationOperator.INVERSION);
+            segmentInversion = operators.getProbability(OperatorSelection.MutationOperator.SEGMENT_INVERSION);
+        } else {
+            swap = config.getPermutationProbability();
+            inversion = config.getInversionProbability();
+            segmentInversion = config.getSegmentInversionProbability();
+        }
+        int numKeys = distances.length;
+        plan.swapFirst = -1;
+        if (r.nextDouble() <= swap) {
+            plan.swapFirst = r.nextInt(numKeys);
+            plan.swapSecond = r.nextInt(numKeys);
+            while (plan.swapSecond == plan.swapFirst) plan.swapSecond = r.nextInt(numKeys);
+        }
+        plan.inversion = r.nextDouble() <= inversion;
+        plan.segmentFirst = -1;
+        if (segmentInversion > 0 && r.nextDouble() <= segmentInversion) {
+            int first = r.nextInt(numKeys);
+            int last = r.nextInt(numKeys);
+            while (last == first) last = r.nextInt(numKeys);
+            plan.segmentFirst = Math.min(first, last);
+            plan.segmentLast = Math.max(first, last);
+        }
+        plan.memetic = config.getMemeticRate() > 0 && r.nextDouble() <= config.getMemeticRate();
+    }
+
+    /**
+     * Scores the offspring whose index is congruent with a given one, with the scorer of that index.
+     *
+     * @param population Current population, with its offspring bred.
+     * @param breeder    Breeder of the population.
+     * @param first      Index of the first offspring scored, and of the scorer.
+     * @param step       Difference between the indices of two offspring scored.
+     */
+    private void score(Population population, Breeder breeder, int first, int step) {
+        Scorer scorer = breeder.scorers[first];
+        for (int j = first; j < population.getNumOffspring(); j += step) {
+            score(population, population.getOffspring(j), breeder.plans[j], scorer);
+        }
+    }
+
+    /**
+     * Calculates the fitness of a son, and applies the mutations of its plan.
+     * The fitness is calculated from the parent that differs least from the son, and updated in O(n) by the
+     * mutations, instead of evaluating the whole layout again. In the memetic mode some sons are then improved by a
+     * bounded local search of swaps, whose changes of cost are also calculated in O(n). Only a son that differs from
+     * both parents in most keys needs the whole layout evaluated, and that evaluation is looked up in the cache.
+     *
+     * @param population Current population.
+     * @param son        Son, with the layout given by the crossover.
+     * @param plan       Plan of the son. Whether every mutation lowered the fitness is written in it.
+     * @param scorer     Fitness cache and reusable memory of the thread.
+     */
+    private void score(Population population, Individual son, OffspringPlan plan, Scorer scorer) {
+        Individual father = population.getIndividual(plan.father);
+        Individual mother = population.getIndividual(plan.mother);
+        son.updatePositions();
+        int fatherDifferences = son.countDifferences(father);
+        int motherDifferences = son.countDifferences(mother);
+        Individual parent = fatherDifferences <= motherDifferences ? father : mother;
+        int differences = Math.min(fatherDifferences, motherDifferences);
+        if (2 * differences < distances.length) {
+            son.calculateFitness(parent, differences, distances, flows);
+        } else {
+            evaluate(son, scorer.cache);
+        }
+        if (plan.swapFirst != -1) {
+            double fitness = son.getFitness();
+            son.swapPositions(plan.swapFirst, plan.swapSecond, distances, flows);
+            plan.swapImproved = son.getFitness() < fitness;
+        }
+        if (plan.inversion) {
+            double fitness = son.getFitness();
+            son.inversionLayout();
+            if (!reversalKeepsCost) evaluate(son, scorer.cache);
+            plan.inversionImproved = son.getFitness() < fitness;
+        }
+        if (plan.segmentFirst != -1) {
+            double fitness = son.getFitness();
+            son.segmentInversion(plan.segmentFirst, plan.segmentLast, distances, flows);
+            plan.segmentInversionImproved = son.getFitness() < fitness;
+        }
+        if (plan.memetic) {
+            son.setFitness(localSearch.improve(son.getLayout(), son.getFitness(), config.getMemeticStrategy(),
+                    config.getMemeticMaxSwaps()));
+            son.updatePositions();
+        }
+        // Interchangeable letters do not change the cost, so the fitness is still valid
+        if (hasInterchangeableLetters) {
+            canonicalize(son.getLayout(), scorer.classCounts);
+            son.updatePositions();
+        }
+    }
+
+    /**
+     * Evaluates the whole layout of an individual, unless it is already in the cache.
+     * Only whole evaluations are stored, and they do not depend on how the layout was reached, so a hit gives
+     * exactly the fitness that evaluating the layout again would give, and the cache never changes the search.
+     *
+     * @param individual Individual whose hash is up to date.
+     * @param cache      Cache of the fitness of the layouts evaluated by the thread.
+     */
+    private void evaluate(Individual individual, FitnessCache cache) {
+        if (cache.get(individual)) return;
+        individual.calculateFitness(distances, flows);
+        cache.put(individual.getHash(), individual.getFitness());
+    }
+
+    /**
+     * Rewards the operators of the adaptive operator selection with the mutations of a generation, in the order of
+     * the offspring. The probabilities of the operators only change between generations, so the mutations of a
+     * generation can be drawn before any offspring is scored.
+     *
+     * @param numOffspring Number of offspring of the generation.
+     * @param breeder      Breeder of the population.
+     */
+    private void rewardOperators(int numOffspring, Breeder breeder) {
+        OperatorSelection operators = breeder.operators;
+        for (int j = 0; j < numOffspring; ++j) {
+            OffspringPlan plan = breeder.plans[j];
+            if (plan.swapFirst != -1) {
+                operators.reward(OperatorSelection.MutationOperator.SWAP, plan.swapImproved);
+            }
+            if (plan.inversion) {
+                operators.reward(OperatorSelection.MutationOperator.INVERSION, plan.inversionImproved);
+            }
+            if (plan.segmentFirst != -1) {
+                operators.reward(OperatorSelection.MutationOperator.SEGMENT_INVERSION, plan.segmentInversionImproved);
+            }
+        }
+    }
+
+    /**
+     * Topologies of the migrations between islands.
+     */
+    public enum MigrationTopology {
+        /** Every island sends its best individuals to the next one, and the last one to the first. */
+        RING,
+        /** Every island sends its best individuals to another island chosen at random in each migration. */
+        RANDOM
+    }
+
+    /**
+     * Inner class with the random stream and the reusable memory with which the offspring of a population are bred.
+     */
+    private static class Breeder {
+        /** Random number generator of the population. */
+        final RandomGenerator random;
+        /** Crossover operator of the population. */
+        final CrossoverOperator crossover;
+        /** Adaptive selection of the mutations of the population, or null if their probabilities are fixed. */
+        final OperatorSelection operators;
+        /** Plan of every place of the offspring buffer. */
+        final OffspringPlan[] plans;
+        /** Fitness cache and reusable memory of every thread that scores the offspring. */
+        final Scorer[] scorers;
+
+        /**
+         * Constructor for the Breeder class.
+         *
+         * @param random         Random number generator of the population.
+         * @param populationSize Number of individuals of the population.
+         * @param numLetters     Number of letters of the alphabet.
+         * @param numScorers     Number of threads that score the offspring.
+         * @param crossover      Crossover operator of the population.
+         * @param operators      Adaptive selection of the mutations, or null if they are fixed.
+         */
+        Breeder(RandomGenerator random, int populationSize, int numLetters, int numScorers,
+                CrossoverOperator crossover, OperatorSelection operators) {
+            this.random = random;
+            this.crossover = crossover;
+            this.operators = operators;
+            this.plans = new OffspringPlan[2 * populationSize];
+            for (int j = 0; j < plans.length; ++j) plans[j] = new OffspringPlan();
+            this.scorers = new Scorer[numScorers];
+            for (int w = 0; w < numScorers; ++w) scorers[w] = new Scorer(numLetters);
+        }
+    }
+
+    /**
+     * Inner class with the fitness cache and the reusable memory of a thread that scores offspring.
+     */
+    private static class Scorer {
+        /** Cache of the fitness of the layouts evaluated by the thread. */
+        final FitnessCache cache;
+        /** Number of letters of every class of interchangeable letters, used to canonicalize layouts. */
+        final int[] classCounts;
+
+        /**
+         * Constructor for the Scorer class.
+         *
+         * @param numLetters Number of letters of the alphabet.
+         */
+        Scorer(int numLetters) {
+            this.cache = new FitnessCache();
+            this.classCounts = new int[numLetters];
+        }
+    }
+
+    /**
+     * Inner class with the parents of an offspring and the mutations drawn for it.
+     */
+    private static class OffspringPlan {
+        /** Index of the first parent. */
+        int father;
+        /** Index of the second parent. */
+        int mother;
+        /** First key of the swap, or -1 if the letters of two keys are not swapped. */
+        int swapFirst;
+        /** Second key of the swap. */
+        int swapSecond;
+        /** Whether the whole layout is reversed. */
+        boolean inversion;
+        /** First key of the reversed segment, or -1 if no segment is reversed. */
+        int segmentFirst;
+        /** Last key of the reversed segment. */
+        int segmentLast;
+        /** Whether the son is improved by the local search of the memetic mode. */
+        boolean memetic;
+        /** Whether the swap lowered the fitness. */
+        boolean swapImproved;
+        /** Whether the reversal of the layout lowered the fitness. */
+        boolean inversionImproved;
+        /** Whether the reversal of the segment lowered the fitness. */
+        boolean segmentInversionImproved;
+    }
+}
@@ -0,0 +1,376 @@
+package Domain;
+
+/**
+ * Class that holds the parameters of the evolutionary algorithm and its stopping criteria.
+ * The default values are the ones the algorithm has always used: a population of 100 individuals evolved for 300
+ * generations, with no time limit and no early stopping.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class EvolutiveConfig {
+    /** Number of individuals in the population. */
+    private int populationSize;
+    /** Maximum number of generations to run the algorithm. */
+    private int maxGenerations;
+    /** Crossover operator used to breed the offspring. */
+    private CrossoverOperator.Type crossover;
+    /** Probability of taking every letter from the first parent in the uniform crossover. */
+    private double crossoverProbability;
+    /** Probability of breeding an offspring from every pair of parents chosen. */
+    private double crossoverThenMutationProbability;
+    /** Probability of swapping two keys of an offspring. */
+    private double permutationProbability;
+    /** Probability of reversing the layout of an offspring. */
+    private double inversionProbability;
+    /** Probability of reversing a random segment of keys of an offspring. */
+    private double segmentInversionProbability;
+    /** Whether the probabilities of the mutations adapt to how often every mutation improves the offspring. */
+    private boolean adaptiveOperators;
+    /** Probability of improving an offspring with a local search of swaps, or 0 to never do it. */
+    private double memeticRate;
+    /** Which improving swap the local search of the offspring applies. */
+    private LocalSearch.Strategy memeticStrategy;
+    /** Maximum number of swaps the local search of an offspring applies. */
+    private int memeticMaxSwaps;
+    /** Whether individuals with the same layout as a better one are removed when the survivors are selected. */
+    private boolean duplicateElimination;
+    /** Maximum time the algorithm can run, in milliseconds, or 0 if there is no limit. */
+    private long timeLimitMillis;
+    /** Number of generations without improving the best fitness after which the algorithm stops, or 0. */
+    private int stagnationLimit;
+
+    /**
+     * Constructor for the EvolutiveConfig class with the default parameters.
+     */
+    public EvolutiveConfig() {
+        populationSize = 100;
+        maxGenerations = 300;
+        crossover = CrossoverOperator.Type.UNIFORM;
+        crossoverProbability = 0.5;
+        crossoverThenMutationProbability = 0.7;
+        permutationProbability = 0.4;
+        inversionProbability = 0.2;
+        segmentInversionProbability = 0;
+        adaptiveOperators = false;
+        memeticRate = 0;
+        memeticStrategy = LocalSearch.Strategy.FIRST_IMPROVEMENT;
+        memeticMaxSwaps = 50;
+        duplicateElimination = false;
+        timeLimitMillis = 0;
+        stagnationLimit = 0;
+    }
+
+    /**
+     * Gets the number of individuals in the population.
+     *
+     * @return Size of the population.
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Sets the number of individuals in the population.
+     *
+     * @param populationSize Size of the population.
+     * @throws IllegalArgumentException If the size is lower than 2, because every individual needs a partner.
+     */
+    public void setPopulationSize(int populationSize) {
+        if (populationSize < 2) throw new IllegalArgumentException("The population needs at least 2 individuals");
+        this.populationSize = populationSize;
+    }
+
+    /**
+     * Gets the maximum number of generations to run the algorithm.
+     *
+     * @return Maximum number of generations.
+     */
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Sets the maximum number of generations to run the algorithm.
+     *
+     * @param maxGenerations Maximum number of generations.
+     * @throws IllegalArgumentException If the number is negative.
+     */
+    public void setMaxGenerations(int maxGenerations) {
+        if (maxGenerations < 0) throw new IllegalArgumentException("The number of generations cannot be negative");
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Gets the crossover operator used to breed the offspring.
+     *
+     * @return Type of the crossover operator.
+     */
+    public CrossoverOperator.Type getCrossover() {
+        return crossover;
+    }
+
+    /**
+     * Sets the crossover operator used to breed the offspring.
+     *
+     * @param crossover Type of the crossover operator.
+     */
+    public void setCrossover(CrossoverOperator.Type crossover) {
+        this.crossover = crossover;
+    }
+
+    /**
+     * Gets the probability of taking every letter from the first parent in the uniform crossover.
+     *
+     * @return Crossover probability.
+     */
+    public double getCrossoverProbability() {
+        return crossoverProbability;
+    }
+
+    /**
+     * Sets the probability of taking every letter from the first parent in the uniform crossover.
+     *
+     * @param crossoverProbability Crossover probability, between 0 and 1.
+     * @throws IllegalArgumentException If the probability is not between 0 and 1.
+     */
+    public void setCrossoverProbability(double crossoverProbability) {
+        checkProbability(crossoverProbability);
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    /**
+     * Gets the probability of breeding an offspring from every pair of parents chosen.
+     *
+     * @return Breeding probability.
+     */
+    public double getCrossoverThenMutationProbability() {
+        return crossoverThenMutationProbability;
+    }
+
+    /**
+     * Sets the probability of breeding an offspring from every pair of parents chosen.
+     *
+     * @param crossoverThenMutationProbability Breeding probability, greater than 0 and at most 1.
+     * @throws IllegalArgumentException If the probability is not greater than 0 and at most 1, because with no
+     *                                  offspring the population could never be renewed.
+     */
+    public void setCrossoverThenMutationProbability(double crossoverThenMutationProbability) {
+        checkProbability(crossoverThenMutationProbability);
+        if (crossoverThenMutationProbability == 0) {
+            throw new IllegalArgumentException("The breeding probability must be greater than 0");
+        }
+        this.crossoverThenMutationProbability = crossoverThenMutationProbability;
+    }
+
+    /**
+     * Gets the probability of swapping two keys of an offspring.
+     *
+     * @return Permutation probability.
+     */
+    public double getPermutationProbability() {
+        return permutationProbability;
+    }
+
+    /**
+     * Sets the probability of swapping two keys of an offspring.
+     *
+     * @param permutationProbability Permutation probability, between 0 and 1.
+     * @throws IllegalArgumentException If the probability is not between 0 and 1.
+     */
+    public void setPermutationProbability(double permutationProbability) {
+        checkProbability(permutationProbability);
+        this.permutationProbability = permutationProbability;
+    }
+
+    /**
+     * Gets the probability of reversing the layout of an offspring.
+     *
+     * @return Inversion probability.
+     */
+    public double getInversionProbability() {
+        return inversionProbability;
+    }
+
+    /**
+     * Sets the probability of reversing the layout of an offspring.
+     *
+     * @param inversionProbability Inversion probability, between 0 and 1.
+     * @throws IllegalArgumentException If the probability is not between 0 and 1.
+     */
+    public void setInversionProbability(double inversionProbability) {
+        checkProbability(inversionProbability);
+        this.inversionProbability = inversionProbability;
+    }
+
+    /**
+     * Gets the probability of reversing a random segment of keys of an offspring.
+     *
+     * @return Segment inversion probability.
+     */
+    public double getSegmentInversionProbability() {
+        return segmentInversionProbability;
+    }
+
+    /**
+     * Sets the probability of reversing a random segment of keys of an offspring.
+     *
+     * @param segmentInversionProbability Segment inversion probability, between 0 and 1.
+     * @throws IllegalArgumentException If the probability is not between 0 and 1.
+     */
+    public void setSegmentInversionProbability(double segmentInversionProbability) {
+        checkProbability(segmentInversionProbability);
+        this.segmentInversionProbability = segmentInversionProbability;
+    }
+
+    /**
+     * Checks if the probabilities of the mutations adapt to how often every mutation improves the offspring.
+     *
+     * @return true if the probabilities adapt, false if they are fixed.
+     */
+    public boolean isAdaptiveOperators() {
+        return adaptiveOperators;
+    }
+
+    /**
+     * Sets if the probabilities of the mutations adapt to how often every mutation improves the offspring.
+     * The adaptive probabilities start split evenly among the swap, the inversion and the segment inversion, and add
+     * up to the sum of their fixed probabilities, so the number of mutations applied stays the same. During the run
+     * they move towards the mutations that have improved the offspring most often recently.
+     *
+     * @param adaptiveOperators true to adapt the probabilities, false to keep them fixed.
+     */
+    public void setAdaptiveOperators(boolean adaptiveOperators) {
+        this.adaptiveOperators = adaptiveOperators;
+    }
+
+    /**
+     * Gets the probability of improving an offspring with a local search of swaps.
+     *
+     * @return Memetic rate, or 0 if the offspring are never improved.
+     */
+    public double getMemeticRate() {
+        return memeticRate;
+    }
+
+    /**
+     * Sets the probability of improving an offspring with a local search of swaps. The offspring chosen are
+     * improved by swapping pairs of keys, applying at most {@link #getMemeticMaxSwaps()} swaps.
+     *
+     * @param memeticRate Memetic rate, between 0 and 1, or 0 to never improve the offspring.
+     * @throws IllegalArgumentException If the rate is not between 0 and 1.
+     */
+    public void setMemeticRate(double memeticRate) {
+        checkProbability(memeticRate);
+        this.memeticRate = memeticRate;
+    }
+
+    /**
+     * Gets which improving swap the local search of the offspring applies.
+     *
+     * @return Strategy of the local search.
+     */
+    public LocalSearch.Strategy getMemeticStrategy() {
+        return memeticStrategy;
+    }
+
+    /**
+     * Sets which improving swap the local search of the offspring applies.
+     *
+     * @param memeticStrategy Strategy of the local search.
+     */
+    public void setMemeticStrategy(LocalSearch.Strategy memeticStrategy) {
+        this.memeticStrategy = memeticStrategy;
+    }
+
+    /**
+     * Gets the maximum number of swaps the local search of an offspring applies.
+     *
+     * @return Maximum number of swaps.
+     */
+    public int getMemeticMaxSwaps() {
+        return memeticMaxSwaps;
+    }
+
+    /**
+     * Sets the maximum number of swaps the local search of an offspring applies.
+     *
+     * @param memeticMaxSwaps Maximum number of swaps.
+     * @throws IllegalArgumentException If the number is lower than 1.
+     */
+    public void setMemeticMaxSwaps(int memeticMaxSwaps) {
+        if (memeticMaxSwaps < 1) throw new IllegalArgumentException("The local search needs at least 1 swap");
+        this.memeticMaxSwaps = memeticMaxSwaps;
+    }
+
+    /**
+     * Checks if individuals with the same layout as a better one are removed when the survivors are selected.
+     *
+     * @return true if duplicates are removed, false otherwise.
+     */
+    public boolean isDuplicateElimination() {
+        return duplicateElimination;
+    }
+
+    /**
+     * Sets if individuals with the same layout as a better one are removed when the survivors are selected.
+     * Removing them keeps the population diverse, but it also lowers the selection pressure towards the best
+     * individual, which is what makes the algorithm converge when there is no local search.
+     *
+     * @param duplicateElimination true to remove the duplicates, false to keep them.
+     */
+    public void setDuplicateElimination(boolean duplicateElimination) {
+        this.duplicateElimination = duplicateElimination;
+    }
+
+    /**
+     * Gets the maximum time the algorithm can run.
+     *
+     * @return Time limit in milliseconds, or 0 if there is no limit.
+     */
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    /**
+     * Sets the maximum time the algorithm can run. When it is reached, the algorithm finishes the generation it is
+     * evolving and returns the best individual found, so the result is no longer reproducible for a given seed.
+     *
+     * @param timeLimitMillis Time limit in milliseconds, or 0 if there is no limit.
+     * @throws IllegalArgumentException If the time limit is negative.
+     */
+    public void setTimeLimitMillis(long timeLimitMillis) {
+        if (timeLimitMillis < 0) throw new IllegalArgumentException("The time limit cannot be negative");
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Gets the number of generations without improving the best fitness after which the algorithm stops.
+     *
+     * @return Number of generations, or 0 if the algorithm never stops early.
+     */
+    public int getStagnationLimit() {
+        return stagnationLimit;
+    }
+
+    /**
+     * Sets the number of generations without improving the best fitness after which the algorithm stops.
+     *
+     * @param stagnationLimit Number of generations, or 0 to never stop early.
+     * @throws IllegalArgumentException If the number is negative.
+     */
+    public void setStagnationLimit(int stagnationLimit) {
+        if (stagnationLimit < 0) throw new IllegalArgumentException("The stagnation limit cannot be negative");
+        this.stagnationLimit = stagnationLimit;
+    }
+
+    /**
+     * Checks that a value is a probability.
+     *
+     * @param probability Value to check.
+     * @throws IllegalArgumentException If the value is not between 0 and 1.
+     */
+    private static void checkProbability(double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("A probability must be between 0 and 1");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package Domain;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EvolutiveTest {
+
+    private static final int NUM_ISLANDS = 3;
+    private static final int POPULATION_SIZE = 10;
+    private static final int NUM_MIGRANTS = 2;
+    private DistanceMatrix distanceMatrix;
+    private FlowMatrix flowMatrix;
+    private SplittableRandom random;
+    private long[][] zobrist;
+
+    @Before
+    public void setUp() {
+        // Preparamos las matrices de un teclado de 4x5 con 10 letras
+        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "y", " "));
+        HashMap<String, Integer> wordlist = new HashMap<>();
+        wordlist.put("hello", 4);
+        wordlist.put("duel", 5);
+        wordlist.put("bye", 6);
+        wordlist.put("ball", 10);
+        wordlist.put("all", 9);
+        distanceMatrix = new DistanceMatrix();
+        flowMatrix = new FlowMatrix();
+        distanceMatrix.initializeMatrix(4, 5);
+        distanceMatrix.calculateDistanceMatrix(4, 5);
+        flowMatrix.initializeMatrix(alphabet.size());
+        flowMatrix.calculateTransitions(wordlist, alphabet);
+
+        // Creamos numeros de Zobrist al azar para los hashes de las distribuciones
+        random = new SplittableRandom(123456789L);
+        zobrist = new long[alphabet.size()][20];
+        for (long[] keys : zobrist) {
+            for (int k = 0; k < 20; ++k) keys[k] = random.nextLong();
+        }
+    }
+
+    @Test
+    public void testMigrate() {
+        for (Evolutive.MigrationTopology topology : Evolutive.MigrationTopology.values()) {
+            EvolutiveConfig config = new EvolutiveConfig();
+            config.setPopulationSize(POPULATION_SIZE);
+            Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+            evolutive.setConfig(config);
+            evolutive.setMigration(topology, 10, NUM_MIGRANTS);
+
+            // Creamos islas con distribuciones al azar y guardamos las mejores, que son las que emigran, y las que
+            // no pueden ser sustituidas aunque una isla reciba los emigrantes de todas las demas
+            Population[] islands = new Population[NUM_ISLANDS];
+            long[][] sent = new long[NUM_ISLANDS][];
+            long[][] kept = new long[NUM_ISLANDS][];
+            for (int k = 0; k < NUM_ISLANDS; ++k) {
+                islands[k] = randomPopulation();
+                sent[k] = hashes(islands[k], 0, NUM_MIGRANTS);
+                kept[k] = hashes(islands[k], 0, POPULATION_SIZE - NUM_MIGRANTS * (NUM_ISLANDS - 1));
+            }
+            evolutive.migrate(islands, new SplittableRandom(7));
+
+            for (int k = 0; k < NUM_ISLANDS; ++k) {
+                // Cada isla conserva sus mejores individuos y sigue ordenada por fitness
+                HashSet<Long> island = new HashSet<>();
+                for (long hash : hashes(islands[k], 0, POPULATION_SIZE)) island.add(hash);
+                for (long hash : kept[k]) assertTrue(island.contains(hash));
+                for (int i = 1; i < POPULATION_SIZE; ++i) {
+                    double previous = islands[k].getIndividual(i - 1).getFitness();
+                    assertTrue(previous <= islands[k].getIndividual(i).getFitness());
+                }
+
+                // Los mejores individuos de cada isla llegan a otra isla
+                int destination = -1;
+                for (int d = 0; d < NUM_ISLANDS; ++d) {
+                    if (d != k && contains(islands[d], sent[k])) destination = d;
+                }
+                assertNotEquals(-1, destination);
+                if (topology == Evolutive.MigrationTopology.RING) assertEquals((k + 1) % NUM_ISLANDS, destination);
+            }
+        }
+    }
+
+    @Test
+    public void testSolveWithDuplicateElimination() {
+        for (int generations : new int[]{5, 50, 300}) {
+            // Con la eliminacion de repetidos todos los supervivientes tienen distribuciones distintas
+            EvolutiveConfig config = new EvolutiveConfig();
+            config.setMaxGenerations(generations);
+            config.setDuplicateElimination(true);
+            Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+            evolutive.setConfig(config);
+            Population population = evolutive.solvePopulation();
+            assertEquals(population.size(), distinctHashes(population));
+
+            // Sin ella la poblacion se llena de copias del mejor individuo
+            if (generations >= 50) {
+                config.setDuplicateElimination(false);
+                evolutive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+                evolutive.setConfig(config);
+                assertTrue(distinctHashes(evolutive.solvePopulation()) < population.size());
+            }
+        }
+    }
+
+    /**
+     * Crea una poblacion de distribuciones al azar ordenada por fitness.
+     */
+    private Population randomPopulation() {
+        Population population = new Population(POPULATION_SIZE, 20, zobrist);
+        for (int i = 0; i < POPULATION_SIZE; ++i) {
+            Individual individual = population.getIndividual(i);
+            int[] layout = individual.getLayout();
+            for (int k = 0; k < 20; ++k) layout[k] = k < zobrist.length ? k : -1;
+            for (int k = 19; k > 0; --k) {
+                int j = random.nextInt(k + 1);
+                int letter = layout[k];
+                layout[k] = layout[j];
+                layout[j] = letter;
+            }
+            individual.updatePositions();
+            individual.calculateFitness(distanceMatrix.toArray(), flowMatrix.toArray());
+        }
+        population.selectSurvivors(false);
+        return population;
+    }
+
+    /**
+     * Devuelve los hashes de los individuos [from, to) de una poblacion.
+     */
+    private long[] hashes(Population population, int from, int to) {
+        long[] hashes = new long[to - from];
+        for (int i = from; i < to; ++i) hashes[i - from] = population.getIndividual(i).getHash();
+        return hashes;
+    }
+
+    /**
+     * Cuenta las distribuciones distintas de una poblacion.
+     */
+    private int distinctHashes(Population population) {
+        HashSet<Long> distinct = new HashSet<>();
+        for (long hash : hashes(population, 0, population.size())) distinct.add(hash);
+        return distinct.size();
+    }
+
+    /**
+     * Comprueba si una poblacion contiene individuos con todos los hashes dados.
+     */
+    private boolean contains(Population population, long[] hashes) {
+        HashSet<Long> present = new HashSet<>();
+        for (long hash : hashes(population, 0, population.size())) present.add(hash);
+        for (long hash : hashes) {
+            if (!present.contains(hash)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package Domain;
+
+/**
+ * Class that keeps the fitness of the last layouts evaluated by the {@link Evolutive} algorithm, indexed by their
+ * hash. Every hash has a single place in the cache, so a new layout replaces the previous one with the same place and
+ * the cache never grows. Two different layouts with the same 64-bit hash are considered the same layout.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+class FitnessCache {
+    /** Number of fitness values kept in the cache. It must be a power of two. */
+    private static final int SIZE = 1 << 12;
+    /** Hash of the layout stored in every place. */
+    private final long[] hashes = new long[SIZE];
+    /** Fitness of the layout stored in every place. */
+    private final double[] fitnesses = new double[SIZE];
+    /** Whether every place has a layout. */
+    private final boolean[] used = new boolean[SIZE];
+
+    /**
+     * Sets the fitness of an individual from the cache, if its layout is there.
+     *
+     * @param individual Individual whose hash is up to date.
+     * @return true if the layout was in the cache and the fitness has been set, false otherwise.
+     */
+    boolean get(Individual individual) {
+        int index = index(individual.getHash());
+        if (!used[index] || hashes[index] != individual.getHash()) return false;
+        individual.setFitness(fitnesses[index]);
+        return true;
+    }
+
+    /**
+     * Stores the fitness of a layout.
+     *
+     * @param hash    Hash of the layout.
+     * @param fitness Fitness of the layout.
+     */
+    void put(long hash, double fitness) {
+        int index = index(hash);
+        hashes[index] = hash;
+        fitnesses[index] = fitness;
+        used[index] = true;
+    }
+
+    /**
+     * Gets the place of a hash in the cache.
+     *
+     * @param hash Hash of a layout.
+     * @return Index of its place.
+     */
+    private static int index(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & (SIZE - 1);
+    }
+}
@@ -0,0 +1,65 @@
+package Domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FitnessCacheTest {
+
+    private static final int NUM_KEYS = 20;
+    private static final int NUM_LETTERS = 10;
+
+    @Test
+    public void testGet() {
+        // Creamos distancias, flujos y numeros de Zobrist al azar para 10 letras en 20 teclas
+        SplittableRandom random = new SplittableRandom(123456789L);
+        double[][] distances = new double[NUM_KEYS][NUM_KEYS];
+        for (double[] row : distances) {
+            for (int k = 0; k < NUM_KEYS; ++k) row[k] = random.nextDouble(10);
+        }
+        double[][] flows = new double[NUM_LETTERS][NUM_LETTERS];
+        for (double[] row : flows) {
+            for (int x = 0; x < NUM_LETTERS; ++x) row[x] = random.nextInt(5);
+        }
+        long[][] zobrist = new long[NUM_LETTERS][NUM_KEYS];
+        for (long[] keys : zobrist) {
+            for (int k = 0; k < NUM_KEYS; ++k) keys[k] = random.nextLong();
+        }
+
+        // Guardamos en la cache la evaluacion entera de muchas distribuciones al azar
+        FitnessCache cache = new FitnessCache();
+        for (int i = 0; i < 1000; ++i) {
+            Individual evaluated = new Individual(randomLayout(random), zobrist);
+            evaluated.calculateFitness(distances, flows);
+            cache.put(evaluated.getHash(), evaluated.getFitness());
+
+            // Un acierto de la cache da exactamente el fitness de evaluar la distribucion entera
+            Individual copy = new Individual(evaluated.getLayout().clone(), zobrist);
+            assertTrue(cache.get(copy));
+            assertEquals(evaluated.getFitness(), copy.getFitness(), 0);
+        }
+
+        // Una distribucion que no se ha evaluado no esta en la cache
+        Individual other = new Individual(randomLayout(random), zobrist);
+        other.setFitness(-1);
+        assertTrue(!cache.get(other) && other.getFitness() == -1);
+    }
+
+    /**
+     * Crea una distribucion al azar que coloca cada letra en una tecla distinta.
+     */
+    private int[] randomLayout(SplittableRandom random) {
+        int[] layout = new int[NUM_KEYS];
+        for (int k = 0; k < NUM_KEYS; ++k) layout[k] = k < NUM_LETTERS ? k : -1;
+        for (int k = NUM_KEYS - 1; k > 0; --k) {
+            int j = random.nextInt(k + 1);
+            int letter = layout[k];
+            layout[k] = layout[j];
+            layout[j] = letter;
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,306 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Class that calculates the Gilmore-Lawler lower bound of a partial key assignment.
+ * The cost of the letters already placed is exact. For every free letter and free key, the interaction with the
+ * placed letters is also exact, and the interaction with the other free letters is bounded by the minimum scalar
+ * product of its sorted flows and the sorted distances of the key. A linear assignment over these costs gives a
+ * value that no completion of the partial assignment can improve.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class GilmoreLawlerBound {
+    /** Distance between every pair of keys. */
+    private final double[][] distance;
+    /** Flow between every pair of letters in both directions (f[i][j] + f[j][i]). */
+    private final double[][] flow;
+    /** Flow of every letter with itself. */
+    private final double[] selfFlow;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Linear assignment solver reused between calls. */
+    private final HungarianAlgorithm hungarian;
+    /** Cost matrix of the linear assignment, indexed by free letter and free key. */
+    private final double[][] cost;
+    /** Sorted flows of every free letter to the other free letters. */
+    private final double[][] sortedFlows;
+    /** Sorted distances of every free key to the other free keys. */
+    private final double[][] sortedDistances;
+    /** Free letters of the current partial assignment. */
+    private final int[] freeLetters;
+    /** Free keys of the current partial assignment. */
+    private final int[] freeKeys;
+    /** Letters placed in the current partial assignment. */
+    private final int[] placedLetters;
+    /** Indicates which keys are occupied in the current partial assignment. */
+    private final boolean[] occupied;
+    /** Linear part of the cost matrix, indexed by free letter and free key. */
+    private final double[][] linear;
+    /** Number of free letters of the current partial assignment. */
+    private int numFreeLetters;
+    /** Number of free keys of the current partial assignment. */
+    private int numFreeKeys;
+    /** Whether the results of a parent assignment are stored to start the next ones from them. */
+    private boolean hasParent;
+    /** Key assigned to each letter in the parent, or -1 if the letter is not placed. */
+    private final int[] parentKeyOfLetter;
+    /** Sorted flows of every free letter of the parent to the other free letters. */
+    private final double[][] parentSortedFlows;
+    /** Sorted distances of every free key of the parent to the other free keys. */
+    private final double[][] parentSortedDistances;
+    /** Linear cost of every free letter on every free key of the parent. */
+    private final double[][] parentLinear;
+    /** Potential of every free key in the linear assignment of the parent. */
+    private final double[] parentKeyPotentials;
+    /** Key assigned to every free letter in the linear assignment of the parent, or -1. */
+    private final int[] parentKeys;
+    /** Position of every key in the list of free keys, or -1 if it is occupied. */
+    private final int[] keyIndex;
+    /** Initial potential of each column when starting from the parent. */
+    private final double[] columnPotentials;
+    /** Initial column of each row when starting from the parent. */
+    private final int[] initialAssignment;
+    /** Key assigned to each letter in the last assignment calculated, whose intermediate results are kept. */
+    private final int[] lastKeyOfLetter;
+    /** Bound of the last assignment calculated, or NaN if no assignment has been calculated. */
+    private double lastBound;
+
+    /**
+     * Constructor for the GilmoreLawlerBound class.
+     *
+     * @param dm Distance matrix of the keyboard.
+     * @param fm Flow matrix of the alphabet.
+     */
+    public GilmoreLawlerBound(DistanceMatrix dm, FlowMatrix fm) {
+        this.distance = dm.toArray();
+        double[][] f = fm.toArray();
+        this.numKeys = distance.length;
+        this.numLetters = f.length;
+        this.flow = new double[numLetters][numLetters];
+        this.selfFlow = new double[numLetters];
+        for (int i = 0; i < numLetters; ++i) {
+            selfFlow[i] = f[i][i];
+            for (int j = 0; j < numLetters; ++j) {
+                if (i != j) flow[i][j] = f[i][j] + f[j][i];
+            }
+        }
+        this.hungarian = new HungarianAlgorithm(numKeys);
+        this.cost = new double[numLetters][numKeys];
+        this.sortedFlows = new double[numLetters][numLetters];
+        this.sortedDistances = new double[numKeys][numKeys];
+        this.freeLetters = new int[numLetters];
+        this.freeKeys = new int[numKeys];
+        this.placedLetters = new int[numLetters];
+        this.occupied = new boolean[numKeys];
+        this.linear = new double[numLetters][numKeys];
+        this.parentKeyOfLetter = new int[numLetters];
+        this.parentSortedFlows = new double[numLetters][numLetters];
+        this.parentSortedDistances = new double[numKeys][numKeys];
+        this.parentLinear = new double[numLetters][numKeys];
+        this.parentKeyPotentials = new double[numKeys];
+        this.parentKeys = new int[numLetters];
+        this.keyIndex = new int[numKeys];
+        this.columnPotentials = new double[numKeys];
+        this.initialAssignment = new int[numLetters];
+        this.lastKeyOfLetter = new int[numLetters];
+        this.lastBound = Double.NaN;
+    }
+
+    /**
+     * Keeps the intermediate results of the bound of a partial assignment, so that the bounds of its children start
+     * from them. A child places one more letter, so its sorted vectors lose one element, its linear costs gain one
+     * term, and most of its linear assignment is still optimal.
+     * If the assignment is the last one calculated, its results are still in the buffers and are not solved again.
+     * Otherwise it is solved, incrementally if it is a child of the current parent.
+     *
+     * @param keyOfLetter Key assigned to each letter, or -1 if the letter is not placed yet.
+     * @return Lower bound of the cost of the partial assignment.
+     */
+    public double setParent(int[] keyOfLetter) {
+        double bound = Arrays.equals(keyOfLetter, lastKeyOfLetter) && !Double.isNaN(lastBound)
+                ? lastBound : calculate(keyOfLetter);
+        hasParent = false;
+        if (numFreeLetters == 0) return bound;
+        System.arraycopy(keyOfLetter, 0, parentKeyOfLetter, 0, numLetters);
+        int[] assignment = hungarian.getAssignment();
+        for (int a = 0; a < numFreeLetters; ++a) {
+            int x = freeLetters[a];
+            parentKeys[x] = freeKeys[assignment[a]];
+            System.arraycopy(sortedFlows[a], 0, parentSortedFlows[x], 0, numFreeLetters - 1);
+            for (int c = 0; c < numFreeKeys; ++c) parentLinear[x][freeKeys[c]] = linear[a][c];
+        }
+        for (int c = 0; c < numFreeKeys; ++c) {
+            int k = freeKeys[c];
+            parentKeyPotentials[k] = hungarian.getColumnPotential(c);
+            System.arraycopy(sortedDistances[c], 0, parentSortedDistances[k], 0, numFreeKeys - 1);
+        }
+        hasParent = true;
+        return bound;
+    }
+
+    /**
+     * Calculates the lower bound of the cost of every complete assignment that extends a partial one.
+     * The letters that are not placed can go to any key that is not occupied. If the assignment is a child of the
+     * parent set with {@link #setParent}, the bound is calculated incrementally from it.
+     *
+     * @param keyOfLetter Key assigned to each letter, or -1 if the letter is not placed yet.
+     * @return Lower bound of the cost. If every letter is placed, it is the exact cost of the assignment.
+     */
+    public double calculate(int[] keyOfLetter) {
+        lastBound = solve(keyOfLetter);
+        System.arraycopy(keyOfLetter, 0, lastKeyOfLetter, 0, numLetters);
+        return lastBound;
+    }
+
+    /**
+     * Calculates the lower bound of a partial assignment, leaving its intermediate results in the buffers.
+     *
+     * @param keyOfLetter Key assigned to each letter, or -1 if the letter is not placed yet.
+     * @return Lower bound of the cost.
+     */
+    private double solve(int[] keyOfLetter) {
+        numFreeLetters = 0;
+        int numPlaced = 0;
+        Arrays.fill(occupied, false);
+        for (int l = 0; l < numLetters; ++l) {
+            if (keyOfLetter[l] == -1) {
+                freeLetters[numFreeLetters++] = l;
+            } else {
+                placedLetters[numPlaced++] = l;
+                occupied[keyOfLetter[l]] = true;
+            }
+        }
+        double fixedCost = 0;
+        for (int a = 0; a < numPlaced; ++a) {
+            int x = placedLetters[a];
+            int kx = keyOfLetter[x];
+            fixedCost += selfFlow[x] * distance[kx][kx];
+            for (int b = a + 1; b < numPlaced; ++b) {
+                int y = placedLetters[b];
+                fixedCost += flow[x][y] * distance[kx][keyOfLetter[y]];
+            }
+        }
+        if (numFreeLetters == 0) return fixedCost;
+
+        numFreeKeys = 0;
+        for (int k = 0; k < numKeys; ++k) {
+            if (!occupied[k]) freeKeys[numFreeKeys++] = k;
+        }
+        int newLetter = hasParent ? findNewLetter(keyOfLetter) : -1;
+        if (newLetter == -1) {
+            sortVectors();
+            for (int a = 0; a < numFreeLetters; ++a) {
+                int x = freeLetters[a];
+                for (int c = 0; c < numFreeKeys; ++c) {
+                    int k = freeKeys[c];
+                    double sum = selfFlow[x] * distance[k][k];
+                    for (int b = 0; b < numPlaced; ++b) {
+                        int y = placedLetters[b];
+                        sum += flow[x][y] * distance[k][keyOfLetter[y]];
+                    }
+                    linear[a][c] = sum;
+                }
+            }
+        } else {
+            int newKey = keyOfLetter[newLetter];
+            for (int a = 0; a < numFreeLetters; ++a) {
+                int x = freeLetters[a];
+                removeValue(parentSortedFlows[x], numFreeLetters, flow[x][newLetter], sortedFlows[a]);
+                for (int c = 0; c < numFreeKeys; ++c) {
+                    int k = freeKeys[c];
+                    linear[a][c] = parentLinear[x][k] + flow[x][newLetter] * distance[k][newKey];
+                }
+            }
+            for (int c = 0; c < numFreeKeys; ++c) {
+                int k = freeKeys[c];
+                removeValue(parentSortedDistances[k], numFreeKeys, distance[k][newKey], sortedDistances[c]);
+            }
+        }
+        int length = numFreeLetters - 1;
+        for (int a = 0; a < numFreeLetters; ++a) {
+            for (int c = 0; c < numFreeKeys; ++c) {
+                double product = 0;
+                for (int t = 0; t < length; ++t) {
+                    product += sortedFlows[a][length - 1 - t] * sortedDistances[c][t];
+                }
+                // Every pair of free letters is counted once from each side
+                cost[a][c] = linear[a][c] + product / 2;
+            }
+        }
+        if (newLetter == -1) return fixedCost + hungarian.solve(cost, numFreeLetters, numFreeKeys);
+        Arrays.fill(keyIndex, -1);
+        for (int c = 0; c < numFreeKeys; ++c) {
+            keyIndex[freeKeys[c]] = c;
+            columnPotentials[c] = parentKeyPotentials[freeKeys[c]];
+        }
+        for (int a = 0; a < numFreeLetters; ++a) {
+            int x = freeLetters[a];
+            initialAssignment[a] = keyIndex[parentKeys[x]];
+        }
+        return fixedCost + hungarian.solve(cost, numFreeLetters, numFreeKeys, columnPotentials, initialAssignment);
+    }
+
+    /**
+     * Finds the letter that a child assignment places in addition to the parent.
+     *
+     * @param keyOfLetter Key assigned to each letter, or -1 if the letter is not placed yet.
+     * @return The new letter, or -1 if the assignment is not a child of the parent.
+     */
+    private int findNewLetter(int[] keyOfLetter) {
+        int newLetter = -1;
+        for (int l = 0; l < numLetters; ++l) {
+            if (keyOfLetter[l] != parentKeyOfLetter[l]) {
+                if (parentKeyOfLetter[l] != -1 || newLetter != -1) return -1;
+                newLetter = l;
+            }
+        }
+        return newLetter;
+    }
+
+    /**
+     * Sorts the flows of every free letter to the other free letters, and the distances of every free key to the
+     * other free keys, in ascending order.
+     */
+    private void sortVectors() {
+        for (int a = 0; a < numFreeLetters; ++a) {
+            int x = freeLetters[a];
+            int n = 0;
+            for (int b = 0; b < numFreeLetters; ++b) {
+                if (a != b) sortedFlows[a][n++] = flow[x][freeLetters[b]];
+            }
+            // Ascending order; it is read backwards to pair the largest flows with the shortest distances
+            Arrays.sort(sortedFlows[a], 0, n);
+        }
+        for (int c = 0; c < numFreeKeys; ++c) {
+            int k = freeKeys[c];
+            int n = 0;
+            for (int d = 0; d < numFreeKeys; ++d) {
+                if (c != d) sortedDistances[c][n++] = distance[k][freeKeys[d]];
+            }
+            Arrays.sort(sortedDistances[c], 0, n);
+        }
+    }
+
+    /**
+     * Copies a sorted vector without one occurrence of a value, so the copy stays sorted.
+     *
+     * @param source Sorted vector.
+     * @param length Number of elements of the source vector.
+     * @param value  Value to remove. It must be in the vector.
+     * @param target Array where the result is copied.
+     */
+    private static void removeValue(double[] source, int length, double value, double[] target) {
+        int n = 0;
+        boolean removed = false;
+        for (int i = 0; i < length; ++i) {
+            if (!removed && source[i] == value) {
+                removed = true;
+            } else {
+                target[n++] = source[i];
+            }
+        }
+    }
+}
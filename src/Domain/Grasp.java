@@ -0,0 +1,290 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class that implements a greedy randomized adaptive search procedure (GRASP) for optimal key assignment on a
+ * keyboard.
+ * Subclass of the {@link Algorithm} class.
+ * Every restart builds a layout in two stages, following Li, Pardalos and Resende. First, a pair of letters with a
+ * high flow is placed on a pair of close keys, chosen at random among the pairs whose product of distance and flow
+ * is the lowest. Then the other letters are placed one by one, choosing at random among the letters and keys whose
+ * cost with the letters already placed is close to the lowest one. The layout is then improved by swapping pairs of
+ * keys until no swap lowers its cost. The restarts are independent, so they run in parallel, and the best layout of
+ * all of them is kept.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class Grasp extends Algorithm {
+    /** Fraction of the closest pairs of keys, and of the pairs of letters with most flow, used in the first stage. */
+    private static final double FIRST_STAGE_FRACTION = 0.5;
+    /** Generator of the random numbers of the algorithm. */
+    private final SplittableRandom random;
+    /** Local search that improves the layout of every restart. */
+    private final LocalSearch localSearch;
+    /** Distance between every pair of keys. */
+    private final double[][] distances;
+    /** Flow between every pair of letters. */
+    private final double[][] flows;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Candidates of the first stage, as {first key, second key, first letter, second letter}, from best to worst. */
+    private final int[][] firstStage;
+    /** Number of restarts. */
+    private int restarts;
+    /** Maximum time the algorithm can run, in milliseconds, or 0 if there is no limit. */
+    private long timeLimitMillis;
+    /** Number of threads that run the restarts. */
+    private int parallelism;
+    /** How far from the lowest cost the candidates of every choice can be, between 0 (greedy) and 1 (random). */
+    private double alpha;
+
+    /**
+     * Constructor for the Grasp class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public Grasp(DistanceMatrix dm, FlowMatrix fm) {
+        this(dm, fm, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the Grasp class with a seed for random number generation.
+     *
+     * @param dm   Distance matrix used by the algorithm.
+     * @param fm   Flow matrix used by the algorithm.
+     * @param seed Seed for random number generation.
+     */
+    public Grasp(DistanceMatrix dm, FlowMatrix fm, long seed) {
+        this(dm, fm, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for the Grasp class with a given random number generator.
+     *
+     * @param dm     Distance matrix used by the algorithm.
+     * @param fm     Flow matrix used by the algorithm.
+     * @param random Random number generator.
+     * @throws IllegalArgumentException If the alphabet has more letters than the keyboard has keys.
+     */
+    private Grasp(DistanceMatrix dm, FlowMatrix fm, SplittableRandom random) {
+        super(dm, fm);
+        this.random = random;
+        this.localSearch = new LocalSearch(dm, fm);
+        this.distances = dm.toArray();
+        this.flows = fm.toArray();
+        this.numKeys = distances.length;
+        this.numLetters = flows.length;
+        if (numLetters > numKeys) {
+            throw new IllegalArgumentException("The keyboard has fewer keys than the alphabet has letters");
+        }
+        this.firstStage = firstStageCandidates();
+        this.restarts = 100;
+        this.parallelism = 1;
+        this.alpha = 0.1;
+    }
+
+    /**
+     * Sets the number of restarts. It is 100 by default.
+     *
+     * @param restarts Number of layouts built and improved. Values lower than 1 are treated as 1.
+     */
+    public void setRestarts(int restarts) {
+        this.restarts = Math.max(1, restarts);
+    }
+
+    /**
+     * Sets the maximum time the algorithm can run. The restarts that have not started when it runs out are skipped.
+     *
+     * @param timeLimitMillis Time limit in milliseconds, or 0 if there is no limit.
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        this.timeLimitMillis = Math.max(0, timeLimitMillis);
+    }
+
+    /**
+     * Sets the number of threads that run the restarts.
+     * Every restart has its own random numbers, split from the generator of the algorithm before they start, so the
+     * result does not depend on the number of threads when there is no time limit.
+     *
+     * @param parallelism Number of threads. Values lower than 1 are treated as 1.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Sets how greedy the construction of the layouts is. It is 0.1 by default.
+     * In every choice, the candidates are the ones whose cost is at most the lowest cost plus this fraction of the
+     * difference between the highest and the lowest cost, and one of them is chosen at random.
+     *
+     * @param alpha Value between 0, to always choose one of the cheapest candidates, and 1, to choose any of them.
+     */
+    public void setGreediness(double alpha) {
+        this.alpha = Math.min(1, Math.max(0, alpha));
+    }
+
+    /**
+     * Solves the key assignment problem using GRASP.
+     */
+    @Override
+    public void solve() {
+        long start = System.currentTimeMillis();
+        SplittableRandom[] streams = new SplittableRandom[restarts];
+        for (int i = 0; i < restarts; ++i) streams[i] = random.split();
+        List<int[]> layouts = new ArrayList<>();
+        if (parallelism > 1) {
+            List<Callable<int[]>> tasks = new ArrayList<>();
+            for (SplittableRandom stream : streams) tasks.add(() -> restart(stream, start));
+            ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, restarts));
+            try {
+                layouts = invokeAll(pool, tasks);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (SplittableRandom stream : streams) layouts.add(restart(stream, start));
+        }
+        // Ties are broken by the order of the restarts, so the result does not depend on the threads
+        int[] best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (int[] layout : layouts) {
+            if (layout == null) continue;
+            double cost = localSearch.cost(layout);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = layout;
+            }
+        }
+        if (best == null) best = construct(random);
+        bestAssignment = new ArrayList<>();
+        for (int letter : best) bestAssignment.add(letter);
+    }
+
+    /**
+     * Builds a layout and improves it with the local search, unless the time limit has run out.
+     *
+     * @param r     Random number generator of the restart.
+     * @param start Time at which the algorithm started, in milliseconds.
+     * @return Letter assigned to each key, or -1 if the key is empty, or null if the restart was skipped.
+     */
+    private int[] restart(SplittableRandom r, long start) {
+        if (timeLimitMillis > 0 && System.currentTimeMillis() - start >= timeLimitMillis) return null;
+        int[] layout = construct(r);
+        localSearch.improve(layout, localSearch.cost(layout));
+        return layout;
+    }
+
+    /**
+     * Builds a layout with the greedy randomized construction.
+     *
+     * @param r Random number generator of the restart.
+     * @return Letter assigned to each key, or -1 if the key is empty.
+     */
+    private int[] construct(SplittableRandom r) {
+        int[] layout = new int[numKeys];
+        Arrays.fill(layout, -1);
+        boolean[] placed = new boolean[numLetters];
+        // Cost of placing every letter on every key, with the letters already placed
+        double[][] costs = new double[numLetters][numKeys];
+        int numPlaced = 0;
+        if (firstStage.length > 0) {
+            int limit = Math.max(1, (int) (alpha * firstStage.length));
+            int[] candidate = firstStage[r.nextInt(limit)];
+            place(layout, placed, costs, candidate[2], candidate[0]);
+            place(layout, placed, costs, candidate[3], candidate[1]);
+            numPlaced = 2;
+        }
+        int[] candidates = new int[numLetters * numKeys];
+        for (; numPlaced < numLetters; ++numPlaced) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int x = 0; x < numLetters; ++x) {
+                if (placed[x]) continue;
+                for (int k = 0; k < numKeys; ++k) {
+                    if (layout[k] != -1) continue;
+                    min = Math.min(min, costs[x][k]);
+                    max = Math.max(max, costs[x][k]);
+                }
+            }
+            double threshold = min + alpha * (max - min);
+            int numCandidates = 0;
+            for (int x = 0; x < numLetters; ++x) {
+                if (placed[x]) continue;
+                for (int k = 0; k < numKeys; ++k) {
+                    if (layout[k] == -1 && costs[x][k] <= threshold) candidates[numCandidates++] = x * numKeys + k;
+                }
+            }
+            int chosen = candidates[r.nextInt(numCandidates)];
+            place(layout, placed, costs, chosen / numKeys, chosen % numKeys);
+        }
+        return layout;
+    }
+
+    /**
+     * Places a letter on a key and adds its cost to the cost of placing every other letter on every free key.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty.
+     * @param placed Whether every letter has been placed.
+     * @param costs  Cost of placing every letter on every key, with the letters already placed.
+     * @param y      Letter to place.
+     * @param l      Key where it is placed.
+     */
+    private void place(int[] layout, boolean[] placed, double[][] costs, int y, int l) {
+        layout[l] = y;
+        placed[y] = true;
+        for (int x = 0; x < numLetters; ++x) {
+            if (placed[x]) continue;
+            double out = flows[x][y];
+            double in = flows[y][x];
+            double[] row = costs[x];
+            for (int k = 0; k < numKeys; ++k) {
+                if (layout[k] == -1) row[k] += distances[k][l] * out + distances[l][k] * in;
+            }
+        }
+    }
+
+    /**
+     * Builds the candidates of the first stage of the construction.
+     * The closest pairs of keys are matched in order with the pairs of letters with most flow, and the matches are
+     * sorted by the product of their distance and their flow.
+     *
+     * @return Candidates, as {first key, second key, first letter, second letter}, from lowest to highest product.
+     */
+    private int[][] firstStageCandidates() {
+        List<int[]> keyPairs = new ArrayList<>();
+        for (int k = 0; k < numKeys - 1; ++k) {
+            for (int l = k + 1; l < numKeys; ++l) keyPairs.add(new int[]{k, l});
+        }
+        List<int[]> letterPairs = new ArrayList<>();
+        for (int x = 0; x < numLetters - 1; ++x) {
+            for (int y = x + 1; y < numLetters; ++y) letterPairs.add(new int[]{x, y});
+        }
+        keyPairs.sort(Comparator.comparingDouble(p -> distances[p[0]][p[1]] + distances[p[1]][p[0]]));
+        letterPairs.sort(Comparator.comparingDouble(p -> -(flows[p[0]][p[1]] + flows[p[1]][p[0]])));
+        int size = (int) Math.ceil(FIRST_STAGE_FRACTION * Math.min(keyPairs.size(), letterPairs.size()));
+        int[][] candidates = new int[size][];
+        double[] products = new double[size];
+        for (int i = 0; i < size; ++i) {
+            int[] keys = keyPairs.get(i);
+            int[] letters = letterPairs.get(i);
+            candidates[i] = new int[]{keys[0], keys[1], letters[0], letters[1]};
+            products[i] = (distances[keys[0]][keys[1]] + distances[keys[1]][keys[0]])
+                    * (flows[letters[0]][letters[1]] + flows[letters[1]][letters[0]]);
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; ++i) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble(i -> products[i]));
+        int[][] sorted = new int[size][];
+        for (int i = 0; i < size; ++i) sorted[i] = candidates[order[i]];
+        return sorted;
+    }
+}
@@ -0,0 +1,184 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Class that solves the linear assignment problem with the Hungarian algorithm.
+ * Assigns every row of a cost matrix to a different column so that the total cost is minimal.
+ * The matrix may have more columns than rows, and the internal buffers are reused between calls.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class HungarianAlgorithm {
+    /** Maximum reduced cost of an assigned pair to keep it when starting from a previous solution. */
+    private static final double TOLERANCE = 1e-9;
+    /** Potential of each row, indexed from 1. */
+    private final double[] u;
+    /** Potential of each column, indexed from 1. Position 0 is an auxiliary column. */
+    private final double[] v;
+    /** Minimum reduced cost to reach each column in the current augmenting search. */
+    private final double[] minv;
+    /** Row assigned to each column, or 0 if the column is free. */
+    private final int[] p;
+    /** Previous column of each column in the current augmenting path. */
+    private final int[] way;
+    /** Columns visited in the current augmenting search. */
+    private final boolean[] used;
+    /** Column assigned to each row of the last solved problem. */
+    private final int[] assignment;
+    /** Rows that already have a column when starting from a previous solution, indexed from 1. */
+    private final boolean[] rowAssigned;
+
+    /**
+     * Constructor for the HungarianAlgorithm class.
+     *
+     * @param maxSize Maximum number of rows and columns of the problems that will be solved.
+     */
+    public HungarianAlgorithm(int maxSize) {
+        u = new double[maxSize + 1];
+        v = new double[maxSize + 1];
+        minv = new double[maxSize + 1];
+        p = new int[maxSize + 1];
+        way = new int[maxSize + 1];
+        used = new boolean[maxSize + 1];
+        assignment = new int[maxSize];
+        rowAssigned = new boolean[maxSize + 1];
+    }
+
+    /**
+     * Solves the assignment problem defined by the first rows and columns of a cost matrix.
+     *
+     * @param cost    Cost matrix, where cost[i][j] is the cost of assigning row i to column j.
+     * @param numRows Number of rows of the problem.
+     * @param numCols Number of columns of the problem. Must be greater than or equal to numRows.
+     * @return Minimum total cost of the assignment.
+     */
+    public double solve(double[][] cost, int numRows, int numCols) {
+        Arrays.fill(u, 0, numRows + 1, 0.0);
+        Arrays.fill(v, 0, numCols + 1, 0.0);
+        Arrays.fill(p, 0, numCols + 1, 0);
+        for (int i = 1; i <= numRows; ++i) augment(cost, i, numCols);
+        for (int j = 1; j <= numCols; ++j) {
+            if (p[j] != 0) assignment[p[j] - 1] = j - 1;
+        }
+        return -v[0];
+    }
+
+    /**
+     * Solves the assignment problem starting from the column potentials and the assignment of a similar problem.
+     * Row potentials are recalculated from the column ones, the assigned pairs that are still tight are kept, and
+     * only the remaining rows are assigned again, which is much faster than solving from scratch when the problem
+     * has changed a little.
+     *
+     * @param cost              Cost matrix, where cost[i][j] is the cost of assigning row i to column j.
+     * @param numRows           Number of rows of the problem.
+     * @param numCols           Number of columns of the problem. Must be greater than or equal to numRows.
+     * @param columnPotentials  Initial potential of each column. Only the non-positive values of assigned columns are
+     *                          used.
+     * @param initialAssignment Initial column of each row, or -1 if the row is not assigned.
+     * @return Minimum total cost of the assignment.
+     */
+    public double solve(double[][] cost, int numRows, int numCols, double[] columnPotentials,
+                        int[] initialAssignment) {
+        Arrays.fill(p, 0, numCols + 1, 0);
+        for (int i = 1; i <= numRows; ++i) {
+            int j = initialAssignment[i - 1];
+            if (j != -1 && p[j + 1] == 0) p[j + 1] = i;
+        }
+        // Free columns need a zero potential, and assigned ones a tight edge, or the result would not be optimal
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            v[0] = 0;
+            for (int j = 1; j <= numCols; ++j) v[j] = p[j] == 0 ? 0 : Math.min(0, columnPotentials[j - 1]);
+            for (int i = 1; i <= numRows; ++i) {
+                double min = Double.MAX_VALUE;
+                for (int j = 1; j <= numCols; ++j) min = Math.min(min, cost[i - 1][j - 1] - v[j]);
+                u[i] = min;
+            }
+            for (int j = 1; j <= numCols; ++j) {
+                if (p[j] != 0 && cost[p[j] - 1][j - 1] - u[p[j]] - v[j] > TOLERANCE) {
+                    p[j] = 0;
+                    changed = true;
+                }
+            }
+        }
+        Arrays.fill(rowAssigned, 0, numRows + 1, false);
+        for (int j = 1; j <= numCols; ++j) rowAssigned[p[j]] = true;
+        for (int i = 1; i <= numRows; ++i) {
+            if (!rowAssigned[i]) augment(cost, i, numCols);
+        }
+        double total = 0;
+        for (int i = 1; i <= numRows; ++i) total += u[i];
+        for (int j = 1; j <= numCols; ++j) {
+            total += v[j];
+            if (p[j] != 0) assignment[p[j] - 1] = j - 1;
+        }
+        return total;
+    }
+
+    /**
+     * Assigns a new row, following the path of minimum reduced cost to a free column and updating the potentials.
+     *
+     * @param cost    Cost matrix.
+     * @param row     Row to assign, indexed from 1.
+     * @param numCols Number of columns of the problem.
+     */
+    private void augment(double[][] cost, int row, int numCols) {
+        p[0] = row;
+        int j0 = 0;
+        Arrays.fill(minv, 0, numCols + 1, Double.MAX_VALUE);
+        Arrays.fill(used, 0, numCols + 1, false);
+        do {
+            used[j0] = true;
+            int i0 = p[j0];
+            double delta = Double.MAX_VALUE;
+            int j1 = 0;
+            for (int j = 1; j <= numCols; ++j) {
+                if (!used[j]) {
+                    double cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                    if (cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+            }
+            for (int j = 0; j <= numCols; ++j) {
+                if (used[j]) {
+                    u[p[j]] += delta;
+                    v[j] -= delta;
+                } else {
+                    minv[j] -= delta;
+                }
+            }
+            j0 = j1;
+        } while (p[j0] != 0);
+        do {
+            int j1 = way[j0];
+            p[j0] = p[j1];
+            j0 = j1;
+        } while (j0 != 0);
+    }
+
+    /**
+     * Gets the column assigned to each row in the last solved problem.
+     *
+     * @return Array where position i is the column assigned to row i.
+     */
+    public int[] getAssignment() {
+        return assignment;
+    }
+
+    /**
+     * Gets the potential of a column in the last solved problem.
+     *
+     * @param column Column, indexed from 0.
+     * @return Potential of the column.
+     */
+    public double getColumnPotential(int column) {
+        return v[column + 1];
+    }
+}
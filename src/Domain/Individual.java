@@ -0,0 +1,306 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Class representing an individual in the population of the {@link Evolutive} algorithm.
+ * The layout is kept together with its inverse, the key of every letter, and a Zobrist hash of the layout, and
+ * every operator updates the three of them.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+class Individual {
+    /**
+     * Keyboard layout, with the letter assigned to each key, or -1 if the key is empty.
+     */
+    private final int[] layout;
+
+    /**
+     * Key assigned to each letter, or -1 if the letter is not placed.
+     */
+    private final int[] position;
+
+    /**
+     * Fitness or cost associated with this keyboard layout.
+     */
+    private double fitness;
+
+    /**
+     * Exclusive or of the Zobrist numbers of every letter on its key.
+     */
+    private long hash;
+
+    /**
+     * Zobrist number of every letter on every key, shared by all the individuals.
+     */
+    private final long[][] zobrist;
+
+    /**
+     * Constructor to create a new individual.
+     * Initializes the individual with a specific keyboard layout and calculates the key of every letter.
+     *
+     * @param l       Array of integers representing the keyboard layout. The array is not copied.
+     * @param zobrist Zobrist number of every letter on every key.
+     */
+    Individual(int[] l, long[][] zobrist) {
+        this.layout = l;
+        this.position = new int[zobrist.length];
+        this.zobrist = zobrist;
+        updatePositions();
+    }
+
+    /**
+     * Gets the keyboard layout. The array is not copied, so {@link #updatePositions()} must be called after writing
+     * it.
+     *
+     * @return Letter assigned to each key, or -1 if the key is empty.
+     */
+    int[] getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the fitness of the layout.
+     *
+     * @return Cost of the layout.
+     */
+    double getFitness() {
+        return fitness;
+    }
+
+    /**
+     * Sets the fitness of the layout.
+     *
+     * @param fitness Cost of the layout.
+     */
+    void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+    /**
+     * Gets the Zobrist hash of the layout.
+     *
+     * @return Exclusive or of the Zobrist numbers of every letter on its key.
+     */
+    long getHash() {
+        return hash;
+    }
+
+    /**
+     * Creates a copy of this individual that shares no arrays with it.
+     *
+     * @return The copy.
+     */
+    Individual copy() {
+        Individual other = new Individual(layout.clone(), zobrist);
+        other.fitness = fitness;
+        return other;
+    }
+
+    /**
+     * Makes this individual equal to another one, copying its arrays.
+     *
+     * @param other Individual to copy.
+     */
+    void copyFrom(Individual other) {
+        System.arraycopy(other.layout, 0, layout, 0, layout.length);
+        System.arraycopy(other.position, 0, position, 0, position.length);
+        fitness = other.fitness;
+        hash = other.hash;
+    }
+
+    /**
+     * Calculates the key of every letter and the hash from the layout.
+     */
+    void updatePositions() {
+        Arrays.fill(position, -1);
+        for (int k = 0; k < layout.length; ++k) {
+            if (layout[k] != -1) position[layout[k]] = k;
+        }
+        updateHash();
+    }
+
+    /**
+     * Calculates the hash from the key of every letter.
+     */
+    private void updateHash() {
+        hash = 0;
+        for (int letter = 0; letter < position.length; ++letter) {
+            if (position[letter] != -1) hash ^= zobrist[letter][position[letter]];
+        }
+    }
+
+    /**
+     * Calculates the fitness of the individual based on the distance and flow matrices.
+     *
+     * @param distances Distance between every pair of keys.
+     * @param flows     Flow between every pair of letters.
+     */
+    void calculateFitness(double[][] distances, double[][] flows) {
+        double cost = 0;
+        for (int t1 = 0; t1 < layout.length; t1++) {
+            int x = layout[t1];
+            if (x == -1) continue;
+            for (int t2 = 0; t2 < layout.length; t2++) {
+                int y = layout[t2];
+                if (y != -1) cost += distances[t1][t2] * flows[x][y];
+            }
+        }
+        this.fitness = cost;
+    }
+
+    /**
+     * Calculates the fitness of the individual from the fitness of a similar one. Only the pairs of keys where
+     * one of the keys has a different letter are evaluated, so the time is O(m n) for m different keys. If most
+     * keys are different, the whole layout is evaluated.
+     *
+     * @param other      Individual whose fitness is already calculated.
+     * @param numChanged Number of keys with a different letter in both individuals.
+     * @param distances  Distance between every pair of keys.
+     * @param flows      Flow between every pair of letters.
+     */
+    void calculateFitness(Individual other, int numChanged, double[][] distances, double[][] flows) {
+        int numKeys = layout.length;
+        if (2 * numChanged >= numKeys) {
+            calculateFitness(distances, flows);
+            return;
+        }
+        double delta = 0;
+        for (int a = 0; a < numKeys; ++a) {
+            if (layout[a] == other.layout[a]) continue;
+            int x = layout[a];
+            int oldX = other.layout[a];
+            // Pairs starting at a changed key, with any key
+            for (int b = 0; b < numKeys; ++b) {
+                delta += distances[a][b] * (flow(flows, x, layout[b]) - flow(flows, oldX, other.layout[b]));
+            }
+            // Pairs ending at a changed key, starting at a key that did not change
+            for (int b = 0; b < numKeys; ++b) {
+                if (layout[b] == other.layout[b]) {
+                    int y = layout[b];
+                    delta += distances[b][a] * (flow(flows, y, x) - flow(flows, y, oldX));
+                }
+            }
+        }
+        this.fitness = other.fitness + delta;
+    }
+
+    /**
+     * Counts the keys that have a different letter in this individual and another one.
+     *
+     * @param other Another individual.
+     * @return Number of different keys.
+     */
+    int countDifferences(Individual other) {
+        int count = 0;
+        for (int k = 0; k < layout.length; ++k) {
+            if (layout[k] != other.layout[k]) ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the flow between two letters, which is zero if one of the keys is empty.
+     *
+     * @param flows Flow between every pair of letters.
+     * @param x     First letter, or -1.
+     * @param y     Second letter, or -1.
+     * @return Flow from the first letter to the second one.
+     */
+    private static double flow(double[][] flows, int x, int y) {
+        return x == -1 || y == -1 ? 0 : flows[x][y];
+    }
+
+    /**
+     * Performs a swap position operation on this individual's keyboard layout.
+     * The fitness is updated in O(n) from the rows and columns of the two keys.
+     *
+     * @param position1 First key.
+     * @param position2 Second key.
+     * @param distances Distance between every pair of keys.
+     * @param flows     Flow between every pair of letters.
+     */
+    void swapPositions(int position1, int position2, double[][] distances, double[][] flows) {
+        this.fitness += swapDelta(position1, position2, distances, flows);
+        swap(position1, position2);
+    }
+
+    /**
+     * Reverses the letters of a segment of keys of this individual's keyboard layout.
+     * The reversal is applied as swaps of the keys at both ends of the segment, so the fitness is updated in
+     * O(n) for every pair of keys swapped.
+     *
+     * @param first     First key of the segment.
+     * @param last      Last key of the segment.
+     * @param distances Distance between every pair of keys.
+     * @param flows     Flow between every pair of letters.
+     */
+    void segmentInversion(int first, int last, double[][] distances, double[][] flows) {
+        for (; first < last; ++first, --last) {
+            this.fitness += swapDelta(first, last, distances, flows);
+            swap(first, last);
+        }
+    }
+
+    /**
+     * Swaps the letters of two keys.
+     *
+     * @param r First key.
+     * @param s Second key.
+     */
+    void swap(int r, int s) {
+        int x = layout[r];
+        int y = layout[s];
+        layout[r] = y;
+        layout[s] = x;
+        if (x != -1) {
+            position[x] = s;
+            hash ^= zobrist[x][r] ^ zobrist[x][s];
+        }
+        if (y != -1) {
+            position[y] = r;
+            hash ^= zobrist[y][s] ^ zobrist[y][r];
+        }
+    }
+
+    /**
+     * Calculates the change of fitness of swapping the letters of two keys, without modifying the layout.
+     *
+     * @param r         First key.
+     * @param s         Second key.
+     * @param distances Distance between every pair of keys.
+     * @param flows     Flow between every pair of letters.
+     * @return Fitness after the swap minus the fitness before it.
+     */
+    double swapDelta(int r, int s, double[][] distances, double[][] flows) {
+        int a = layout[r];
+        int b = layout[s];
+        if (a == b) return 0;
+        double delta = 0;
+        for (int k = 0; k < layout.length; ++k) {
+            int c = layout[k];
+            if (c == -1 || k == r || k == s) continue;
+            double out = flow(flows, b, c) - flow(flows, a, c);
+            double in = flow(flows, c, b) - flow(flows, c, a);
+            delta += (distances[r][k] - distances[s][k]) * out + (distances[k][r] - distances[k][s]) * in;
+        }
+        delta += (distances[r][r] - distances[s][s]) * (flow(flows, b, b) - flow(flows, a, a))
+                + (distances[r][s] - distances[s][r]) * (flow(flows, b, a) - flow(flows, a, b));
+        return delta;
+    }
+
+    /**
+     * Inverts this individual's keyboard layout.
+     */
+    void inversionLayout() {
+        int numKeys = layout.length;
+        for (int k = 0; k < numKeys / 2; ++k) {
+            int x = layout[k];
+            layout[k] = layout[numKeys - 1 - k];
+            layout[numKeys - 1 - k] = x;
+        }
+        for (int letter = 0; letter < position.length; ++letter) {
+            if (position[letter] != -1) position[letter] = numKeys - 1 - position[letter];
+        }
+        updateHash();
+    }
+}
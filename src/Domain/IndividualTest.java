@@ -0,0 +1,117 @@
+package Domain;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class IndividualTest {
+
+    private static final int NUM_KEYS = 20;
+    private static final int NUM_LETTERS = 10;
+    private SplittableRandom random;
+    private double[][] distances;
+    private double[][] flows;
+    private long[][] zobrist;
+
+    @Before
+    public void setUp() {
+        // Creamos distancias, flujos y numeros de Zobrist al azar para 10 letras en 20 teclas
+        random = new SplittableRandom(123456789L);
+        distances = new double[NUM_KEYS][NUM_KEYS];
+        for (double[] row : distances) {
+            for (int k = 0; k < NUM_KEYS; ++k) row[k] = random.nextDouble(10);
+        }
+        flows = new double[NUM_LETTERS][NUM_LETTERS];
+        for (double[] row : flows) {
+            for (int x = 0; x < NUM_LETTERS; ++x) row[x] = random.nextInt(5);
+        }
+        zobrist = new long[NUM_LETTERS][NUM_KEYS];
+        for (long[] keys : zobrist) {
+            for (int k = 0; k < NUM_KEYS; ++k) keys[k] = random.nextLong();
+        }
+    }
+
+    @Test
+    public void testHash() {
+        // Partimos de dos padres al azar y los cruzamos
+        Individual father = new Individual(randomLayout(), zobrist);
+        Individual mother = new Individual(randomLayout(), zobrist);
+        Individual son = new Individual(new int[NUM_KEYS], zobrist);
+        for (CrossoverOperator.Type type : CrossoverOperator.Type.values()) {
+            CrossoverOperator operator = type.create(NUM_LETTERS, NUM_KEYS, 0.5);
+            operator.crossover(father.getLayout(), mother.getLayout(), random, son.getLayout());
+            son.updatePositions();
+            assertEquals(hash(son), son.getHash());
+        }
+
+        // Las mutaciones actualizan el hash sin recalcularlo, y ha de coincidir con el calculado desde cero
+        for (int i = 0; i < 100; ++i) {
+            int[] keys = twoKeys();
+            son.swapPositions(keys[0], keys[1], distances, flows);
+            assertEquals(hash(son), son.getHash());
+            keys = twoKeys();
+            son.segmentInversion(keys[0], keys[1], distances, flows);
+            assertEquals(hash(son), son.getHash());
+            son.inversionLayout();
+            assertEquals(hash(son), son.getHash());
+        }
+    }
+
+    @Test
+    public void testSegmentInversion() {
+        // Invertimos segmentos al azar actualizando el fitness por diferencias
+        Individual individual = new Individual(randomLayout(), zobrist);
+        individual.calculateFitness(distances, flows);
+        for (int i = 0; i < 200; ++i) {
+            int[] before = individual.getLayout().clone();
+            int[] keys = twoKeys();
+            individual.segmentInversion(keys[0], keys[1], distances, flows);
+
+            // Solo cambia el segmento, que queda al reves
+            for (int k = 0; k < NUM_KEYS; ++k) {
+                boolean inside = k >= keys[0] && k <= keys[1];
+                assertEquals(inside ? before[keys[0] + keys[1] - k] : before[k], individual.getLayout()[k]);
+            }
+
+            // El fitness actualizado coincide con el de evaluar la distribucion entera
+            Individual copy = new Individual(individual.getLayout().clone(), zobrist);
+            copy.calculateFitness(distances, flows);
+            assertEquals(copy.getFitness(), individual.getFitness(), 1e-9);
+        }
+    }
+
+    /**
+     * Crea una distribucion al azar que coloca cada letra en una tecla distinta.
+     */
+    private int[] randomLayout() {
+        int[] layout = new int[NUM_KEYS];
+        for (int k = 0; k < NUM_KEYS; ++k) layout[k] = k < NUM_LETTERS ? k : -1;
+        for (int k = NUM_KEYS - 1; k > 0; --k) {
+            int j = random.nextInt(k + 1);
+            int letter = layout[k];
+            layout[k] = layout[j];
+            layout[j] = letter;
+        }
+        return layout;
+    }
+
+    /**
+     * Elige al azar dos teclas distintas, la primera menor que la segunda.
+     */
+    private int[] twoKeys() {
+        int first = random.nextInt(NUM_KEYS);
+        int last = random.nextInt(NUM_KEYS - 1);
+        if (last >= first) ++last;
+        return new int[]{Math.min(first, last), Math.max(first, last)};
+    }
+
+    /**
+     * Calcula desde cero el hash de la distribucion de un individuo.
+     */
+    private long hash(Individual individual) {
+        return new Individual(individual.getLayout().clone(), zobrist).getHash();
+    }
+}
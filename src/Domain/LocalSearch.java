@@ -0,0 +1,205 @@
+package Domain;
+
+/**
+ * Class that evaluates key assignments and improves them by swapping pairs of keys.
+ * Layouts are arrays with the letter assigned to each key, or -1 if the key is empty, like the assignments of
+ * {@link Algorithm}. The change of cost of a swap is calculated in O(n) from the rows and columns of the two keys.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class LocalSearch {
+    /** Minimum decrease of cost for a swap to be considered an improvement. */
+    private static final double EPSILON = 1e-9;
+    /** Distance between every pair of keys. */
+    private final double[][] distances;
+    /** Flow between every pair of letters. */
+    private final double[][] flows;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Lowest letter of the class of interchangeable letters of every letter. */
+    private final int[] letterClasses;
+
+    /**
+     * Constructor for the LocalSearch class.
+     *
+     * @param dm Distance matrix of the keyboard.
+     * @param fm Flow matrix of the alphabet.
+     */
+    public LocalSearch(DistanceMatrix dm, FlowMatrix fm) {
+        this.distances = dm.toArray();
+        this.flows = fm.toArray();
+        this.numKeys = distances.length;
+        this.letterClasses = fm.interchangeableClasses();
+    }
+
+    /**
+     * Calculates the cost of a layout.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty.
+     * @return Cost of the layout.
+     */
+    public double cost(int[] layout) {
+        double cost = 0;
+        for (int t1 = 0; t1 < numKeys; t1++) {
+            int x = layout[t1];
+            if (x == -1) continue;
+            for (int t2 = 0; t2 < numKeys; t2++) {
+                int y = layout[t2];
+                if (y != -1) cost += distances[t1][t2] * flows[x][y];
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Calculates the change of cost of swapping the letters of two keys, without modifying the layout.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty.
+     * @param r      First key.
+     * @param s      Second key.
+     * @return Cost of the layout after the swap minus the cost before it.
+     */
+    public double swapDelta(int[] layout, int r, int s) {
+        int a = layout[r];
+        int b = layout[s];
+        if (a == b) return 0;
+        double[] rowA = a == -1 ? null : flows[a];
+        double[] rowB = b == -1 ? null : flows[b];
+        double[] distR = distances[r];
+        double[] distS = distances[s];
+        double delta = 0;
+        for (int k = 0; k < numKeys; ++k) {
+            int c = layout[k];
+            if (c == -1 || k == r || k == s) continue;
+            double out = (rowB == null ? 0 : rowB[c]) - (rowA == null ? 0 : rowA[c]);
+            double in = (b == -1 ? 0 : flows[c][b]) - (a == -1 ? 0 : flows[c][a]);
+            delta += (distR[k] - distS[k]) * out + (distances[k][r] - distances[k][s]) * in;
+        }
+        double faa = a == -1 ? 0 : flows[a][a];
+        double fbb = b == -1 ? 0 : flows[b][b];
+        double fab = a == -1 || b == -1 ? 0 : flows[a][b];
+        double fba = a == -1 || b == -1 ? 0 : flows[b][a];
+        delta += (distR[r] - distS[s]) * (fbb - faa) + (distR[s] - distS[r]) * (fba - fab);
+        return delta;
+    }
+
+    /**
+     * Swaps the letters of two keys of a layout.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty.
+     * @param r      First key.
+     * @param s      Second key.
+     */
+    public static void swap(int[] layout, int r, int s) {
+        int x = layout[r];
+        layout[r] = layout[s];
+        layout[s] = x;
+    }
+
+    /**
+     * Improves a layout by applying every swap of two keys that lowers its cost, until no swap does.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty. It is modified in place.
+     * @param cost   Cost of the layout.
+     * @return Cost of the improved layout.
+     */
+    public double improve(int[] layout, double cost) {
+        return improve(layout, cost, numKeys);
+    }
+
+    /**
+     * Improves a layout by applying every swap of two of its first keys that lowers its cost, until no swap does.
+     * Swaps of two interchangeable letters, or of two empty keys, never change the cost and are skipped.
+     *
+     * @param layout    Letter assigned to each key, or -1 if the key is empty. It is modified in place.
+     * @param cost      Cost of the layout.
+     * @param usedKeys  Number of keys, from the first one, that can be swapped.
+     * @return Cost of the improved layout.
+     */
+    public double improve(int[] layout, double cost, int usedKeys) {
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int r = 0; r < usedKeys - 1; ++r) {
+                for (int s = r + 1; s < usedKeys; ++s) {
+                    if (areInterchangeable(layout[r], layout[s])) continue;
+                    double delta = swapDelta(layout, r, s);
+                    if (delta < -EPSILON) {
+                        swap(layout, r, s);
+                        cost += delta;
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Improves a layout by swapping pairs of keys, applying at most a given number of swaps.
+     * With first improvement every swap that lowers the cost is applied as soon as it is found. With best
+     * improvement every pass over the pairs of keys applies only the swap that lowers the cost the most.
+     *
+     * @param layout   Letter assigned to each key, or -1 if the key is empty. It is modified in place.
+     * @param cost     Cost of the layout.
+     * @param strategy Which improving swap is applied.
+     * @param maxSwaps Maximum number of swaps to apply.
+     * @return Cost of the improved layout.
+     */
+    public double improve(int[] layout, double cost, Strategy strategy, int maxSwaps) {
+        int swaps = 0;
+        boolean improved = true;
+        while (improved && swaps < maxSwaps) {
+            improved = false;
+            int bestR = -1;
+            int bestS = -1;
+            double bestDelta = -EPSILON;
+            for (int r = 0; r < numKeys - 1 && swaps < maxSwaps; ++r) {
+                for (int s = r + 1; s < numKeys && swaps < maxSwaps; ++s) {
+                    if (areInterchangeable(layout[r], layout[s])) continue;
+                    double delta = swapDelta(layout, r, s);
+                    if (delta < bestDelta) {
+                        if (strategy == Strategy.FIRST_IMPROVEMENT) {
+                            swap(layout, r, s);
+                            cost += delta;
+                            ++swaps;
+                            improved = true;
+                        } else {
+                            bestDelta = delta;
+                            bestR = r;
+                            bestS = s;
+                        }
+                    }
+                }
+            }
+            if (bestR != -1) {
+                swap(layout, bestR, bestS);
+                cost += bestDelta;
+                ++swaps;
+                improved = true;
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Checks whether swapping the letters of two keys cannot change the cost of any layout.
+     *
+     * @param x Letter of the first key, or -1 if it is empty.
+     * @param y Letter of the second key, or -1 if it is empty.
+     * @return True if both keys are empty or their letters are interchangeable, false otherwise.
+     */
+    private boolean areInterchangeable(int x, int y) {
+        if (x == -1 || y == -1) return x == y;
+        return letterClasses[x] == letterClasses[y];
+    }
+
+    /**
+     * Strategies to choose which improving swap is applied.
+     */
+    public enum Strategy {
+        /** Applies the first swap found that lowers the cost. */
+        FIRST_IMPROVEMENT,
+        /** Applies the swap that lowers the cost the most. */
+        BEST_IMPROVEMENT
+    }
+}
@@ -0,0 +1,86 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Class that adapts the probabilities of the mutations of the {@link Evolutive} algorithm to their recent
+ * improvement rate.
+ * The improvement rate of an operator is an exponential moving average of whether each of its mutations lowered
+ * the fitness of the offspring. The probabilities are split in proportion to the rates, keeping a minimum share
+ * for every operator so that it can recover if it becomes useful again, and they always add up to the same total.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+class OperatorSelection {
+    /** Weight of the last mutation in the improvement rate of its operator. */
+    private static final double ADAPTATION_RATE = 0.05;
+    /** Share of the mutations that every operator keeps, however bad it is. */
+    private static final double MINIMUM_OPERATOR_SHARE = 0.1;
+    /** Sum of the probabilities of all the operators. */
+    private final double total;
+    /** Recent improvement rate of every operator. */
+    private final double[] rates;
+    /** Current probability of every operator. */
+    private final double[] probabilities;
+
+    /**
+     * Constructor for the OperatorSelection class, with the same probability for every operator.
+     *
+     * @param total Sum of the probabilities of all the operators.
+     */
+    OperatorSelection(double total) {
+        int numOperators = MutationOperator.values().length;
+        this.total = total;
+        this.rates = new double[numOperators];
+        this.probabilities = new double[numOperators];
+        Arrays.fill(rates, 0.5);
+        updateProbabilities();
+    }
+
+    /**
+     * Gets the current probability of applying an operator.
+     *
+     * @param operator Mutation operator.
+     * @return Probability of applying it to an offspring.
+     */
+    double getProbability(MutationOperator operator) {
+        return probabilities[operator.ordinal()];
+    }
+
+    /**
+     * Updates the improvement rate of an operator with the result of one of its mutations.
+     *
+     * @param operator Mutation operator applied.
+     * @param improved Whether the mutation lowered the fitness of the offspring.
+     */
+    void reward(MutationOperator operator, boolean improved) {
+        int o = operator.ordinal();
+        rates[o] += ADAPTATION_RATE * ((improved ? 1 : 0) - rates[o]);
+        updateProbabilities();
+    }
+
+    /**
+     * Splits the total probability among the operators in proportion to their improvement rates.
+     */
+    private void updateProbabilities() {
+        int numOperators = rates.length;
+        double sum = 0;
+        for (double rate : rates) sum += rate;
+        for (int o = 0; o < numOperators; ++o) {
+            double share = sum > 0 ? rates[o] / sum : 1.0 / numOperators;
+            share = MINIMUM_OPERATOR_SHARE + (1 - numOperators * MINIMUM_OPERATOR_SHARE) * share;
+            probabilities[o] = Math.min(1, total * share);
+        }
+    }
+
+    /**
+     * Mutations that the adaptive operator selection chooses among.
+     */
+    enum MutationOperator {
+        /** Swaps the letters of two random keys. */
+        SWAP,
+        /** Reverses the whole layout. */
+        INVERSION,
+        /** Reverses a random segment of keys. */
+        SEGMENT_INVERSION
+    }
+}
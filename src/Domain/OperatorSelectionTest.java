@@ -0,0 +1,52 @@
+package Domain;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OperatorSelectionTest {
+
+    private static final OperatorSelection.MutationOperator[] OPERATORS = OperatorSelection.MutationOperator.values();
+
+    @Test
+    public void testOperatorSelectionConstructor() {
+        // Al principio la probabilidad total se reparte a partes iguales
+        double total = 0.6;
+        OperatorSelection operators = new OperatorSelection(total);
+        for (OperatorSelection.MutationOperator operator : OPERATORS) {
+            assertEquals(total / OPERATORS.length, operators.getProbability(operator), 1e-12);
+        }
+    }
+
+    @Test
+    public void testReward() {
+        // Premiamos siempre la inversion de segmentos, y las demas mutaciones nunca mejoran
+        double total = 0.6;
+        OperatorSelection operators = new OperatorSelection(total);
+        double previous = operators.getProbability(OperatorSelection.MutationOperator.SEGMENT_INVERSION);
+        for (int i = 0; i < 500; ++i) {
+            for (OperatorSelection.MutationOperator operator : OPERATORS) {
+                operators.reward(operator, operator == OperatorSelection.MutationOperator.SEGMENT_INVERSION);
+            }
+        }
+
+        // Su probabilidad sube, las demas conservan su parte minima y la suma sigue siendo la misma
+        assertTrue(operators.getProbability(OperatorSelection.MutationOperator.SEGMENT_INVERSION) > previous);
+        double sum = 0;
+        for (OperatorSelection.MutationOperator operator : OPERATORS) {
+            assertTrue(operators.getProbability(operator) >= 0.1 * total - 1e-12);
+            sum += operators.getProbability(operator);
+        }
+        assertEquals(total, sum, 1e-12);
+
+        // Si la inversion de segmentos deja de mejorar y el intercambio mejora, las probabilidades se invierten
+        for (int i = 0; i < 500; ++i) {
+            for (OperatorSelection.MutationOperator operator : OPERATORS) {
+                operators.reward(operator, operator == OperatorSelection.MutationOperator.SWAP);
+            }
+        }
+        assertTrue(operators.getProbability(OperatorSelection.MutationOperator.SWAP)
+                > operators.getProbability(OperatorSelection.MutationOperator.SEGMENT_INVERSION));
+    }
+}
@@ -0,0 +1,59 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Order crossover (OX).
+ * The child takes a random segment of keys from the first parent. The other keys are filled, starting after the
+ * segment and wrapping around, with the remaining letters in the order they have in the second parent, also
+ * starting after the segment.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class OrderCrossover extends PermutationCrossover {
+    /** Whether every element is in the segment copied from the first parent. */
+    private final boolean[] inSegment;
+
+    /**
+     * Constructor for the OrderCrossover class.
+     *
+     * @param numLetters Number of letters of the alphabet.
+     * @param numKeys    Number of keys on the keyboard.
+     */
+    public OrderCrossover(int numLetters, int numKeys) {
+        super(numLetters, numKeys);
+        this.inSegment = new boolean[numKeys];
+    }
+
+    /**
+     * Crosses two permutations and writes the child permutation.
+     *
+     * @param first  Permutation of the first parent.
+     * @param second Permutation of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the child permutation is written.
+     */
+    @Override
+    protected void crossPermutations(int[] first, int[] second, RandomGenerator random, int[] child) {
+        int size = first.length;
+        int a = random.nextInt(size);
+        int b = random.nextInt(size);
+        if (a > b) {
+            int x = a;
+            a = b;
+            b = x;
+        }
+        Arrays.fill(inSegment, false);
+        for (int k = a; k <= b; ++k) {
+            child[k] = first[k];
+            inSegment[first[k]] = true;
+        }
+        int next = (b + 1) % size;
+        for (int i = 1; i <= size; ++i) {
+            int x = second[(b + i) % size];
+            if (inSegment[x]) continue;
+            child[next] = x;
+            next = (next + 1) % size;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Partially mapped crossover (PMX).
+ * The child takes a random segment of keys from the first parent and the other keys from the second parent. A
+ * letter of the second parent that is already in the segment is replaced by following the mapping between both
+ * parents in the segment, until a letter that is not in it is found.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class PartiallyMappedCrossover extends PermutationCrossover {
+    /** Position of every element in the first parent. */
+    private final int[] firstPositions;
+    /** Whether every element is in the segment copied from the first parent. */
+    private final boolean[] inSegment;
+
+    /**
+     * Constructor for the PartiallyMappedCrossover class.
+     *
+     * @param numLetters Number of letters of the alphabet.
+     * @param numKeys    Number of keys on the keyboard.
+     */
+    public PartiallyMappedCrossover(int numLetters, int numKeys) {
+        super(numLetters, numKeys);
+        this.firstPositions = new int[numKeys];
+        this.inSegment = new boolean[numKeys];
+    }
+
+    /**
+     * Crosses two permutations and writes the child permutation.
+     *
+     * @param first  Permutation of the first parent.
+     * @param second Permutation of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the child permutation is written.
+     */
+    @Override
+    protected void crossPermutations(int[] first, int[] second, RandomGenerator random, int[] child) {
+        int size = first.length;
+        int a = random.nextInt(size);
+        int b = random.nextInt(size);
+        if (a > b) {
+            int x = a;
+            a = b;
+            b = x;
+        }
+        Arrays.fill(inSegment, false);
+        for (int k = 0; k < size; ++k) firstPositions[first[k]] = k;
+        for (int k = a; k <= b; ++k) {
+            child[k] = first[k];
+            inSegment[first[k]] = true;
+        }
+        for (int k = 0; k < size; ++k) {
+            if (k >= a && k <= b) continue;
+            int x = second[k];
+            // The key of x in the first parent is in the segment, so its letter in the second parent replaces x
+            while (inSegment[x]) x = second[firstPositions[x]];
+            child[k] = x;
+        }
+    }
+}
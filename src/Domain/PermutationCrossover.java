@@ -0,0 +1,70 @@
+package Domain;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Base class for the classic crossover operators of permutations.
+ * A layout is turned into a permutation of the numbers from 0 to the number of keys minus one by numbering the
+ * empty keys after the letters, in the order of the keys. The child permutation is turned back into a layout by
+ * emptying the keys with those numbers, so empty keys are treated as equal fillers and every letter is placed once.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public abstract class PermutationCrossover implements CrossoverOperator {
+    /** Number of letters of the alphabet. */
+    protected final int numLetters;
+    /** Permutation of the first parent. */
+    private final int[] first;
+    /** Permutation of the second parent. */
+    private final int[] second;
+
+    /**
+     * Constructor for the PermutationCrossover class.
+     *
+     * @param numLetters Number of letters of the alphabet.
+     * @param numKeys    Number of keys on the keyboard.
+     */
+    protected PermutationCrossover(int numLetters, int numKeys) {
+        this.numLetters = numLetters;
+        this.first = new int[numKeys];
+        this.second = new int[numKeys];
+    }
+
+    /**
+     * Crosses two layouts and writes the child.
+     *
+     * @param father Layout of the first parent.
+     * @param mother Layout of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the layout of the child is written, with one place for every key.
+     */
+    @Override
+    public void crossover(int[] father, int[] mother, RandomGenerator random, int[] child) {
+        toPermutation(father, first);
+        toPermutation(mother, second);
+        crossPermutations(first, second, random, child);
+        for (int k = 0; k < child.length; ++k) {
+            if (child[k] >= numLetters) child[k] = -1;
+        }
+    }
+
+    /**
+     * Numbers the empty keys of a layout after the letters, in the order of the keys.
+     *
+     * @param layout      Letter assigned to each key, or -1 if the key is empty.
+     * @param permutation Array where the permutation is written.
+     */
+    private void toPermutation(int[] layout, int[] permutation) {
+        int filler = numLetters;
+        for (int k = 0; k < layout.length; ++k) permutation[k] = layout[k] == -1 ? filler++ : layout[k];
+    }
+
+    /**
+     * Crosses two permutations and writes the child permutation.
+     *
+     * @param first  Permutation of the first parent.
+     * @param second Permutation of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the child permutation is written.
+     */
+    protected abstract void crossPermutations(int[] first, int[] second, RandomGenerator random, int[] child);
+}
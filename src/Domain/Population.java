@@ -0,0 +1,223 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Class with the individuals of a population of the {@link Evolutive} algorithm and the buffers to evolve it
+ * without allocating memory.
+ * The offspring of every generation are written over the individuals of the offspring buffer, and the survivors
+ * are copied to the survivors buffer, which then becomes the population. Survivors are selected by sorting their
+ * indices by fitness, instead of a list of individuals.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+class Population {
+    /** Individuals of the current generation, sorted by fitness after the first generation. */
+    private Individual[] individuals;
+    /** Buffer where the survivors of a generation are copied. */
+    private Individual[] survivors;
+    /** Buffer where the offspring of a generation are written. */
+    private final Individual[] offspring;
+    /** Number of offspring written in the offspring buffer in the current generation. */
+    private int numOffspring;
+    /** Indices of the offspring and the individuals, sorted by fitness when the survivors are selected. */
+    private final int[] order;
+    /** Buffer used to merge the sorted indices. */
+    private final int[] orderBuffer;
+    /** Fitness of every index of the offspring and the individuals. */
+    private final double[] fitnesses;
+    /** Indices of the individuals that have the same layout as a better one. */
+    private final int[] duplicates;
+    /** Hashes of the layouts already chosen as survivors, in an open addressing table. */
+    private final long[] seenHashes;
+    /** Generation in which every place of the table of hashes was filled. */
+    private final int[] seenStamps;
+    /** Number of the current selection, so the table of hashes does not have to be emptied. */
+    private int stamp;
+
+    /**
+     * Constructor for the Population class.
+     *
+     * @param size    Number of individuals.
+     * @param numKeys Number of keys on the keyboard.
+     * @param zobrist Zobrist number of every letter on every key.
+     */
+    Population(int size, int numKeys, long[][] zobrist) {
+        individuals = newIndividuals(size, numKeys, zobrist);
+        survivors = newIndividuals(size, numKeys, zobrist);
+        // Every round over the parents adds at most size offspring, and rounds stop after size of them
+        offspring = newIndividuals(2 * size, numKeys, zobrist);
+        order = new int[3 * size];
+        orderBuffer = new int[3 * size];
+        fitnesses = new double[3 * size];
+        duplicates = new int[3 * size];
+        int capacity = Integer.highestOneBit(6 * size - 1) << 1;
+        seenHashes = new long[capacity];
+        seenStamps = new int[capacity];
+    }
+
+    /**
+     * Creates individuals with empty layouts.
+     *
+     * @param size    Number of individuals.
+     * @param numKeys Number of keys on the keyboard.
+     * @param zobrist Zobrist number of every letter on every key.
+     * @return The individuals.
+     */
+    private static Individual[] newIndividuals(int size, int numKeys, long[][] zobrist) {
+        Individual[] buffer = new Individual[size];
+        for (int i = 0; i < size; ++i) {
+            int[] layout = new int[numKeys];
+            Arrays.fill(layout, -1);
+            buffer[i] = new Individual(layout, zobrist);
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets the best individual, once the population is sorted.
+     *
+     * @return The first individual.
+     */
+    Individual best() {
+        return individuals[0];
+    }
+
+    /**
+     * Gets the number of individuals of the population.
+     *
+     * @return Size of the population.
+     */
+    int size() {
+        return individuals.length;
+    }
+
+    /**
+     * Gets an individual of the current generation.
+     *
+     * @param i Index of the individual, which is its rank by fitness once the population is sorted.
+     * @return The individual.
+     */
+    Individual getIndividual(int i) {
+        return individuals[i];
+    }
+
+    /**
+     * Gets a place of the offspring buffer.
+     *
+     * @param j Index of the place.
+     * @return Individual where the offspring of that place is written.
+     */
+    Individual getOffspring(int j) {
+        return offspring[j];
+    }
+
+    /**
+     * Gets the number of offspring written in the offspring buffer in the current generation.
+     *
+     * @return Number of offspring.
+     */
+    int getNumOffspring() {
+        return numOffspring;
+    }
+
+    /**
+     * Takes the next free place of the offspring buffer.
+     *
+     * @return Index of the place, where the caller writes the new offspring.
+     */
+    int addOffspring() {
+        return numOffspring++;
+    }
+
+    /**
+     * Gets an individual by its index among the offspring followed by the individuals.
+     *
+     * @param index Index of an offspring, or the number of offspring plus the index of an individual.
+     * @return The individual.
+     */
+    private Individual candidate(int index) {
+        return index < numOffspring ? offspring[index] : individuals[index - numOffspring];
+    }
+
+    /**
+     * Keeps the best individuals among the offspring and the current population as the next population, and
+     * empties the offspring buffer. Individuals with the same fitness keep their order, with the offspring
+     * first. With duplicate elimination, individuals with the same layout as a better one are only kept if
+     * there are not enough different layouts, so copies of the best individual do not take over the population.
+     *
+     * @param duplicateElimination Whether individuals with the same layout as a better one are removed.
+     */
+    void selectSurvivors(boolean duplicateElimination) {
+        int total = numOffspring + individuals.length;
+        for (int c = 0; c < total; ++c) {
+            order[c] = c;
+            fitnesses[c] = candidate(c).getFitness();
+        }
+        sort(0, total);
+        int size = individuals.length;
+        if (!duplicateElimination) {
+            for (int j = 0; j < size; ++j) survivors[j].copyFrom(candidate(order[j]));
+        } else {
+            ++stamp;
+            int numSurvivors = 0;
+            int numDuplicates = 0;
+            for (int c = 0; c < total && numSurvivors < size; ++c) {
+                if (markSeen(candidate(order[c]).getHash())) order[numSurvivors++] = order[c];
+                else duplicates[numDuplicates++] = order[c];
+            }
+            // Fill the population with the best duplicates, merged by fitness with the different layouts
+            int numTaken = Math.min(numDuplicates, size - numSurvivors);
+            int a = 0;
+            int b = 0;
+            for (int j = 0; j < numSurvivors + numTaken; ++j) {
+                boolean fromSurvivors = b == numTaken || (a < numSurvivors
+                        && Double.compare(fitnesses[order[a]], fitnesses[duplicates[b]]) <= 0);
+                survivors[j].copyFrom(candidate(fromSurvivors ? order[a++] : duplicates[b++]));
+            }
+        }
+        Individual[] previous = individuals;
+        individuals = survivors;
+        survivors = previous;
+        numOffspring = 0;
+    }
+
+    /**
+     * Sorts a range of the indices by fitness with a stable merge sort.
+     *
+     * @param from First position of the range.
+     * @param to   Position after the last one of the range.
+     */
+    private void sort(int from, int to) {
+        if (to - from < 2) return;
+        int middle = (from + to) >>> 1;
+        sort(from, middle);
+        sort(middle, to);
+        if (Double.compare(fitnesses[order[middle - 1]], fitnesses[order[middle]]) <= 0) return;
+        System.arraycopy(order, from, orderBuffer, from, to - from);
+        int a = from;
+        int b = middle;
+        for (int k = from; k < to; ++k) {
+            boolean fromFirst = b == to
+                    || (a < middle && Double.compare(fitnesses[orderBuffer[a]], fitnesses[orderBuffer[b]]) <= 0);
+            order[k] = fromFirst ? orderBuffer[a++] : orderBuffer[b++];
+        }
+    }
+
+    /**
+     * Adds a hash to the table of the hashes of the current selection.
+     *
+     * @param hash Hash of a layout.
+     * @return true if the hash was not in the table, false otherwise.
+     */
+    private boolean markSeen(long hash) {
+        int mask = seenHashes.length - 1;
+        int index = (int) (hash ^ (hash >>> 32)) & mask;
+        while (seenStamps[index] == stamp) {
+            if (seenHashes[index] == hash) return false;
+            index = (index + 1) & mask;
+        }
+        seenStamps[index] = stamp;
+        seenHashes[index] = hash;
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package Domain;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PopulationTest {
+
+    private static final int NUM_KEYS = 20;
+    private static final int NUM_LETTERS = 10;
+    private SplittableRandom random;
+    private double[][] distances;
+    private double[][] flows;
+    private long[][] zobrist;
+
+    @Before
+    public void setUp() {
+        // Creamos distancias, flujos y numeros de Zobrist al azar para 10 letras en 20 teclas
+        random = new SplittableRandom(123456789L);
+        distances = new double[NUM_KEYS][NUM_KEYS];
+        for (double[] row : distances) {
+            for (int k = 0; k < NUM_KEYS; ++k) row[k] = random.nextDouble(10);
+        }
+        flows = new double[NUM_LETTERS][NUM_LETTERS];
+        for (double[] row : flows) {
+            for (int x = 0; x < NUM_LETTERS; ++x) row[x] = random.nextInt(5);
+        }
+        zobrist = new long[NUM_LETTERS][NUM_KEYS];
+        for (long[] keys : zobrist) {
+            for (int k = 0; k < NUM_KEYS; ++k) keys[k] = random.nextLong();
+        }
+    }
+
+    @Test
+    public void testSelectSurvivorsWithDuplicateElimination() {
+        // Llenamos una poblacion de 10 individuos con copias de 3 distribuciones
+        Population population = new Population(10, NUM_KEYS, zobrist);
+        int[][] repeated = {randomLayout(), randomLayout(), randomLayout()};
+        for (int i = 0; i < population.size(); ++i) set(population.getIndividual(i), repeated[i % 3]);
+
+        // Los hijos anaden otras 8 distribuciones distintas, cada una dos veces, asi que hay 11 distintas
+        for (int i = 0; i < 8; ++i) {
+            int[] layout = randomLayout();
+            set(population.getOffspring(population.addOffspring()), layout);
+            set(population.getOffspring(population.addOffspring()), layout);
+        }
+
+        // Con la eliminacion de repetidos los supervivientes tienen hashes distintos y estan ordenados por fitness
+        population.selectSurvivors(true);
+        assertEquals(0, population.getNumOffspring());
+        HashSet<Long> hashes = new HashSet<>();
+        for (int i = 0; i < population.size(); ++i) {
+            Individual individual = population.getIndividual(i);
+            assertTrue(hashes.add(individual.getHash()));
+            if (i > 0) assertTrue(population.getIndividual(i - 1).getFitness() <= individual.getFitness());
+        }
+
+        // Si solo hay 3 distribuciones distintas la poblacion se completa con las mejores copias
+        for (int i = 0; i < population.size(); ++i) set(population.getIndividual(i), repeated[i % 3]);
+        population.selectSurvivors(true);
+        hashes.clear();
+        for (int i = 0; i < population.size(); ++i) hashes.add(population.getIndividual(i).getHash());
+        assertEquals(3, hashes.size());
+    }
+
+    /**
+     * Crea una distribucion al azar que coloca cada letra en una tecla distinta.
+     */
+    private int[] randomLayout() {
+        int[] layout = new int[NUM_KEYS];
+        for (int k = 0; k < NUM_KEYS; ++k) layout[k] = k < NUM_LETTERS ? k : -1;
+        for (int k = NUM_KEYS - 1; k > 0; --k) {
+            int j = random.nextInt(k + 1);
+            int letter = layout[k];
+            layout[k] = layout[j];
+            layout[j] = letter;
+        }
+        return layout;
+    }
+
+    /**
+     * Copia una distribucion en un individuo y calcula su fitness.
+     */
+    private void set(Individual individual, int[] layout) {
+        System.arraycopy(layout, 0, individual.getLayout(), 0, layout.length);
+        individual.updatePositions();
+        individual.calculateFitness(distances, flows);
+    }
+}
@@ -0,0 +1,432 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class that implements simulated annealing for optimal key assignment on a keyboard.
+ * Subclass of the {@link Algorithm} class.
+ * Starting from a random layout, the algorithm proposes swaps of the letters of two keys. A swap that lowers the
+ * cost is always applied, and one that raises it by delta is applied with probability exp(-delta / T), where the
+ * temperature T goes down during the run following a cooling schedule. The change of cost of every swap is
+ * calculated in O(n) with {@link LocalSearch#swapDelta(int[], int, int)}, so the layout is never evaluated whole.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class SimulatedAnnealing extends Algorithm {
+    /** Number of proposed swaps per pair of keys in the default budget of iterations. */
+    private static final int ITERATIONS_PER_KEY_PAIR = 100;
+    /** Number of random swaps used to estimate the initial temperature. */
+    private static final int SAMPLED_SWAPS = 1000;
+    /** Probability of applying a swap that raises the cost by the average amount at the initial temperature. */
+    private static final double INITIAL_ACCEPTANCE = 0.5;
+    /** Ratio between the final and the initial temperature when they are calculated automatically. */
+    private static final double FINAL_TEMPERATURE_RATIO = 1e-3;
+    /** Ratio between the temperature of the hottest replica and the initial temperature, if they are estimated. */
+    private static final double TEMPERING_HOT_RATIO = 0.1;
+    /** Ratio between the temperature of the coldest replica and the initial temperature, if they are estimated. */
+    private static final double TEMPERING_COLD_RATIO = 0.025;
+    /** Number of iterations between two updates of the temperature and two checks of the time limit. */
+    private static final int TEMPERATURE_STEP = 128;
+    /** Generator of the random numbers of the algorithm. */
+    private final SplittableRandom random;
+    /** Local search that calculates the change of cost of the swaps and polishes the best layout. */
+    private final LocalSearch localSearch;
+    /** Number of keys on the keyboard. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Schedule that lowers the temperature during the run. */
+    private CoolingSchedule cooling;
+    /** Temperature at the start of the run, or 0 to estimate it from the cost of random swaps. */
+    private double initialTemperature;
+    /** Temperature at the end of the run, or 0 to use a fixed fraction of the initial temperature. */
+    private double finalTemperature;
+    /** Maximum number of proposed swaps, or 0 to scale it with the number of keys. */
+    private long maxIterations;
+    /** Maximum time the algorithm can run, in milliseconds, or 0 if there is no limit. */
+    private long timeLimitMillis;
+    /** Number of iterations without improving the best layout after which the temperature is raised, or 0. */
+    private long reheatInterval;
+    /** Fraction of the initial temperature to which the temperature is raised when reheating. */
+    private double reheatRatio;
+    /** Number of chains of the parallel tempering mode, or 1 to anneal a single chain. */
+    private int replicas;
+    /** Number of iterations of every replica between two exchanges of the parallel tempering mode. */
+    private long exchangeInterval;
+
+    /**
+     * Constructor for the SimulatedAnnealing class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public SimulatedAnnealing(DistanceMatrix dm, FlowMatrix fm) {
+        this(dm, fm, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the SimulatedAnnealing class with a seed for random number generation.
+     *
+     * @param dm   Distance matrix used by the algorithm.
+     * @param fm   Flow matrix used by the algorithm.
+     * @param seed Seed for random number generation.
+     */
+    public SimulatedAnnealing(DistanceMatrix dm, FlowMatrix fm, long seed) {
+        this(dm, fm, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for the SimulatedAnnealing class with a given random number generator.
+     *
+     * @param dm     Distance matrix used by the algorithm.
+     * @param fm     Flow matrix used by the algorithm.
+     * @param random Random number generator.
+     */
+    private SimulatedAnnealing(DistanceMatrix dm, FlowMatrix fm, SplittableRandom random) {
+        super(dm, fm);
+        this.random = random;
+        this.localSearch = new LocalSearch(dm, fm);
+        this.numKeys = dm.matrix.size();
+        this.numLetters = fm.matrix.size();
+        this.cooling = CoolingSchedule.GEOMETRIC;
+        this.reheatRatio = 0.5;
+        this.replicas = 1;
+        this.exchangeInterval = 1000;
+    }
+
+    /**
+     * Sets the schedule that lowers the temperature during the run. It is geometric by default.
+     *
+     * @param cooling Cooling schedule.
+     */
+    public void setCoolingSchedule(CoolingSchedule cooling) {
+        this.cooling = cooling;
+    }
+
+    /**
+     * Sets the temperatures at the start and at the end of the run.
+     * By default the initial temperature is the one at which a swap that raises the cost by the average amount of
+     * some random swaps is applied half of the time, and the final temperature is a thousandth of it.
+     *
+     * @param initialTemperature Temperature at the start of the run, or 0 to estimate it.
+     * @param finalTemperature   Temperature at the end of the run, or 0 to take a fraction of the initial one. It is
+     *                           lowered to the initial temperature if it is higher.
+     */
+    public void setTemperatures(double initialTemperature, double finalTemperature) {
+        this.initialTemperature = Math.max(0, initialTemperature);
+        this.finalTemperature = Math.max(0, finalTemperature);
+    }
+
+    /**
+     * Sets the maximum number of swaps proposed during the run.
+     * By default it is 100 for every pair of keys of the keyboard.
+     *
+     * @param maxIterations Maximum number of proposed swaps, or 0 to scale it with the number of keys.
+     */
+    public void setMaxIterations(long maxIterations) {
+        this.maxIterations = Math.max(0, maxIterations);
+    }
+
+    /**
+     * Sets the maximum time the algorithm can run.
+     * The temperature follows the schedule over the iterations or over the time, whichever runs out first, so the
+     * run always ends cold.
+     *
+     * @param timeLimitMillis Time limit in milliseconds, or 0 if there is no limit.
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        this.timeLimitMillis = Math.max(0, timeLimitMillis);
+    }
+
+    /**
+     * Sets when and how much the temperature is raised if the search gets stuck. It is disabled by default.
+     * After the given number of iterations without improving the best layout, the temperature is raised to a
+     * fraction of the initial one, and it follows the cooling schedule from there to the final temperature over the
+     * rest of the budget.
+     *
+     * @param reheatInterval Number of iterations without improvement before reheating, or 0 to never reheat.
+     * @param reheatRatio    Fraction of the initial temperature to which the temperature is raised, between 0
+     *                       and 1.
+     */
+    public void setReheating(long reheatInterval, double reheatRatio) {
+        this.reheatInterval = Math.max(0, reheatInterval);
+        this.reheatRatio = Math.min(1, Math.max(0, reheatRatio));
+    }
+
+    /**
+     * Sets the number of replicas of the parallel tempering mode. It is disabled by default.
+     * With more than one replica, the algorithm runs that many chains at once on different threads, at fixed
+     * temperatures spaced geometrically, instead of cooling a single chain. The temperatures go from the initial to
+     * the final one if they are set, and otherwise from a tenth to a fortieth of the estimated initial temperature,
+     * which is where a cooling finds most of its improvements. Periodically, neighboring replicas exchange their
+     * layouts with the Metropolis criterion, so good layouts found at high temperatures move down to be refined, and
+     * layouts stuck at low temperatures move up to escape. Every replica runs the whole budget of iterations, and
+     * the best layout of all of them is returned. The cooling schedule and the reheating are not used in this mode.
+     *
+     * @param replicas Number of replicas, or 1 to anneal a single chain. Values lower than 1 are treated as 1.
+     */
+    public void setReplicas(int replicas) {
+        this.replicas = Math.max(1, replicas);
+    }
+
+    /**
+     * Sets how often the replicas of the parallel tempering mode exchange their layouts. By default it is every
+     * 1000 iterations.
+     *
+     * @param exchangeInterval Number of iterations of every replica between two exchanges.
+     */
+    public void setExchangeInterval(long exchangeInterval) {
+        this.exchangeInterval = Math.max(1, exchangeInterval);
+    }
+
+    /**
+     * Solves the key assignment problem using simulated annealing.
+     */
+    @Override
+    public void solve() {
+        long start = System.currentTimeMillis();
+        Chain chain = new Chain(random);
+        if (numLetters == 0 || numKeys < 2) {
+            bestAssignment = new ArrayList<>();
+            for (int letter : chain.layout) bestAssignment.add(letter);
+            return;
+        }
+        double t0 = initialTemperature > 0 ? initialTemperature : estimateTemperature(chain.layout);
+        double tf = finalTemperature > 0 ? Math.min(finalTemperature, t0) : t0 * FINAL_TEMPERATURE_RATIO;
+        long iterations = maxIterations > 0 ? maxIterations : (long) ITERATIONS_PER_KEY_PAIR * numKeys * numKeys / 2;
+        if (replicas > 1) {
+            // Most of a cooling is spent too hot or too cold to improve, so the replicas only cover the middle of it
+            double hottest = initialTemperature > 0 ? t0 : t0 * TEMPERING_HOT_RATIO;
+            double coldest = finalTemperature > 0 ? tf : t0 * TEMPERING_COLD_RATIO;
+            chain = temper(hottest, Math.min(coldest, hottest), iterations, start);
+        } else {
+            anneal(chain, t0, tf, iterations, start);
+        }
+        int[] best = chain.best;
+        // The best layout may be a few swaps away from a local optimum if it was found at a high temperature
+        localSearch.improve(best, localSearch.cost(best));
+        bestAssignment = new ArrayList<>();
+        for (int letter : best) bestAssignment.add(letter);
+    }
+
+    /**
+     * Cools a chain from the initial to the final temperature following the cooling schedule, reheating it if the
+     * search gets stuck.
+     *
+     * @param chain      Chain to anneal.
+     * @param t0         Initial temperature.
+     * @param tf         Final temperature.
+     * @param iterations Maximum number of iterations.
+     * @param start      Time at which the algorithm started, in milliseconds.
+     */
+    private void anneal(Chain chain, double t0, double tf, long iterations, long start) {
+        // The schedule goes from the temperature of the current phase to the final one, and reheating starts a phase
+        double phaseTemperature = t0;
+        double phaseStart = 0;
+        double progress = 0;
+        double temperature = t0;
+        long lastImprovement = 0;
+        for (long iteration = 0; progress < 1; ++iteration) {
+            if (iteration % TEMPERATURE_STEP == 0) {
+                progress = (double) iteration / iterations;
+                if (timeLimitMillis > 0) {
+                    progress = Math.max(progress, (double) (System.currentTimeMillis() - start) / timeLimitMillis);
+                }
+                if (reheatInterval > 0 && iteration - lastImprovement >= reheatInterval && progress < 1) {
+                    phaseTemperature = Math.max(t0 * reheatRatio, tf);
+                    phaseStart = progress;
+                    lastImprovement = iteration;
+                }
+                double phaseProgress = Math.min(1, (progress - phaseStart) / (1 - phaseStart));
+                temperature = cooling.temperature(phaseTemperature, tf, phaseProgress);
+            }
+            if (chain.step(temperature)) lastImprovement = iteration;
+        }
+    }
+
+    /**
+     * Runs the replicas of the parallel tempering mode and exchanges their layouts.
+     * The exchanges alternate between the pairs of replicas that start at an even and at an odd position, and the
+     * random numbers of every replica are split from the generator of the algorithm, so the result does not depend
+     * on how the threads are scheduled.
+     *
+     * @param t0         Temperature of the hottest replica.
+     * @param tf         Temperature of the coldest replica.
+     * @param iterations Maximum number of iterations of every replica.
+     * @param start      Time at which the algorithm started, in milliseconds.
+     * @return Chain with the best layout found by any replica.
+     */
+    private Chain temper(double t0, double tf, long iterations, long start) {
+        Chain[] chains = new Chain[replicas];
+        double[] temperatures = new double[replicas];
+        for (int k = 0; k < replicas; ++k) {
+            chains[k] = new Chain(random.split());
+            temperatures[k] = t0 * Math.pow(tf / t0, (double) k / (replicas - 1));
+        }
+        ForkJoinPool pool = new ForkJoinPool(replicas);
+        try {
+            int parity = 0;
+            for (long done = 0; done < iterations; done += exchangeInterval) {
+                long epoch = Math.min(exchangeInterval, iterations - done);
+                ArrayList<Callable<Void>> tasks = new ArrayList<>();
+                for (int k = 0; k < replicas; ++k) {
+                    Chain chain = chains[k];
+                    double temperature = temperatures[k];
+                    tasks.add(() -> {
+                        for (long iteration = 0; iteration < epoch; ++iteration) chain.step(temperature);
+                        return null;
+                    });
+                }
+                invokeAll(pool, tasks);
+                if (timeLimitMillis > 0 && System.currentTimeMillis() - start >= timeLimitMillis) break;
+                for (int k = parity; k + 1 < replicas; k += 2) {
+                    double x = (1 / temperatures[k] - 1 / temperatures[k + 1]) * (chains[k].cost - chains[k + 1].cost);
+                    if (x >= 0 || random.nextDouble() < Math.exp(x)) {
+                        Chain chain = chains[k];
+                        chains[k] = chains[k + 1];
+                        chains[k + 1] = chain;
+                    }
+                }
+                parity ^= 1;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Chain best = chains[0];
+        for (Chain chain : chains) {
+            if (chain.bestCost < best.bestCost) best = chain;
+        }
+        return best;
+    }
+
+    /**
+     * Creates a layout with every letter on a different random key.
+     *
+     * @param r Random number generator.
+     * @return Letter assigned to each key, or -1 if the key is empty.
+     */
+    private int[] randomLayout(RandomGenerator r) {
+        int[] layout = new int[numKeys];
+        for (int k = 0; k < numKeys; ++k) layout[k] = k < numLetters ? k : -1;
+        for (int k = numKeys - 1; k > 0; --k) LocalSearch.swap(layout, k, r.nextInt(k + 1));
+        return layout;
+    }
+
+    /**
+     * Estimates the initial temperature from the average increase of cost of random swaps of a layout.
+     *
+     * @param layout Letter assigned to each key, or -1 if the key is empty.
+     * @return Temperature at which a swap with the average increase of cost is applied with the initial acceptance.
+     */
+    private double estimateTemperature(int[] layout) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < SAMPLED_SWAPS; ++i) {
+            int r = random.nextInt(numKeys);
+            int s = random.nextInt(numKeys);
+            double delta = localSearch.swapDelta(layout, r, s);
+            if (delta > 0) {
+                sum += delta;
+                ++count;
+            }
+        }
+        // Without letters or flows every swap keeps the cost, and any temperature works
+        if (count == 0) return 1;
+        return sum / count / -Math.log(INITIAL_ACCEPTANCE);
+    }
+
+    /**
+     * Inner class with the state of a Markov chain of the annealing: a layout, its cost and the best layout found.
+     */
+    private class Chain {
+        /** Random number generator of the chain. */
+        final SplittableRandom random;
+        /** Letter assigned to each key, or -1 if the key is empty. */
+        final int[] layout;
+        /** Key of every letter. */
+        final int[] position;
+        /** Cost of the layout. */
+        double cost;
+        /** Best layout found by the chain. */
+        final int[] best;
+        /** Cost of the best layout found by the chain. */
+        double bestCost;
+
+        /**
+         * Constructor for the Chain class, starting from a random layout.
+         *
+         * @param random Random number generator of the chain.
+         */
+        Chain(SplittableRandom random) {
+            this.random = random;
+            this.layout = randomLayout(random);
+            this.position = new int[numLetters];
+            for (int k = 0; k < numKeys; ++k) {
+                if (layout[k] != -1) position[layout[k]] = k;
+            }
+            this.cost = localSearch.cost(layout);
+            this.best = layout.clone();
+            this.bestCost = cost;
+        }
+
+        /**
+         * Proposes a random swap and applies it with the Metropolis criterion.
+         *
+         * @param temperature Current temperature.
+         * @return true if the swap found a layout better than the best one of the chain, false otherwise.
+         */
+        boolean step(double temperature) {
+            // One of the keys always has a letter, so no iteration is spent swapping two empty keys
+            int r = position[random.nextInt(numLetters)];
+            int s = random.nextInt(numKeys - 1);
+            if (s >= r) ++s;
+            double delta = localSearch.swapDelta(layout, r, s);
+            if (delta > 0 && random.nextDouble() >= Math.exp(-delta / temperature)) return false;
+            int x = layout[r];
+            int y = layout[s];
+            LocalSearch.swap(layout, r, s);
+            position[x] = s;
+            if (y != -1) position[y] = r;
+            cost += delta;
+            if (cost >= bestCost - 1e-9) return false;
+            bestCost = cost;
+            System.arraycopy(layout, 0, best, 0, numKeys);
+            return true;
+        }
+    }
+
+    /**
+     * Schedules that lower the temperature from the initial to the final one as the budget of the run is spent.
+     */
+    public enum CoolingSchedule {
+        /** Multiplies the temperature by the same factor in every step, so it spends most of the run cold. */
+        GEOMETRIC,
+        /** Subtracts the same amount from the temperature in every step, so it spends most of the run hot. */
+        LINEAR,
+        /** Lundy and Mees schedule, where the inverse of the temperature grows by the same amount in every step. */
+        LUNDY_MEES;
+
+        /**
+         * Calculates the temperature at some point of the run.
+         *
+         * @param initial  Temperature at the start.
+         * @param last     Temperature at the end.
+         * @param progress Fraction of the budget that has been spent, between 0 and 1.
+         * @return Temperature at that point.
+         */
+        public double temperature(double initial, double last, double progress) {
+            switch (this) {
+                case LINEAR:
+                    return initial + (last - initial) * progress;
+                case LUNDY_MEES:
+                    return initial * last / (last + (initial - last) * progress);
+                default:
+                    return initial * Math.pow(last / initial, progress);
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Class that implements the robust tabu search of Taillard for optimal key assignment on a keyboard.
+ * Subclass of the {@link Algorithm} class.
+ * In every iteration the algorithm applies the swap of the letters of two keys that lowers the cost the most, or
+ * raises it the least, among the swaps that are not tabu. After a swap, putting both letters back on the keys they
+ * left is tabu for a random number of iterations. A tabu swap is still applied if it finds a layout better than any
+ * other found, and a swap that puts a letter on a key where it has not been for a long time is applied first.
+ * The change of cost of every swap is kept in a matrix. After a swap of keys r and s, the change of the swaps that
+ * involve r or s is calculated in O(n), and the change of every other swap is updated in O(1), so every iteration
+ * costs O(n^2).
+ * Empty keys hold dummy letters without flows, so the layout is a permutation of the keys.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class TabuSearch extends Algorithm {
+    /** Number of iterations per key in the default budget of iterations. */
+    private static final int ITERATIONS_PER_KEY = 100;
+    /** Minimum decrease of cost for a layout to be considered better than the best one. */
+    private static final double EPSILON = 1e-9;
+    /** Generator of the random numbers of the algorithm. */
+    private final SplittableRandom random;
+    /** Distance between every pair of keys. */
+    private final double[][] distances;
+    /** Flow between every pair of letters, including the dummy letters of the empty keys. */
+    private final double[][] flows;
+    /** Lowest letter of the class of interchangeable letters of every letter, with every dummy letter in one class. */
+    private final int[] letterClasses;
+    /** Number of keys on the keyboard, which is also the number of letters including the dummy ones. */
+    private final int numKeys;
+    /** Number of letters of the alphabet. */
+    private final int numLetters;
+    /** Maximum number of iterations, or 0 to scale it with the number of keys. */
+    private long maxIterations;
+    /** Maximum time the algorithm can run, in milliseconds, or 0 if there is no limit. */
+    private long timeLimitMillis;
+    /** Minimum number of iterations a swap stays tabu, or 0 to use 90% of the number of keys. */
+    private int minTenure;
+    /** Maximum number of iterations a swap stays tabu, or 0 to use 110% of the number of keys. */
+    private int maxTenure;
+    /** Number of iterations after which a letter that has not been on a key is forced onto it, or 0 for 5n^2. */
+    private long aspiration;
+    /** Distance from the first key swapped to every key, minus the distance from the second one. */
+    private final double[] outDistances;
+    /** Distance from every key to the first key swapped, minus the distance to the second one. */
+    private final double[] inDistances;
+    /** Flow from the letter of the second key swapped to the letter of every key, minus the flow from the first. */
+    private final double[] outFlows;
+    /** Flow from the letter of every key to the letter of the second key swapped, minus the flow to the first. */
+    private final double[] inFlows;
+
+    /**
+     * Constructor for the TabuSearch class.
+     *
+     * @param dm Distance matrix used by the algorithm.
+     * @param fm Flow matrix used by the algorithm.
+     */
+    public TabuSearch(DistanceMatrix dm, FlowMatrix fm) {
+        this(dm, fm, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the TabuSearch class with a seed for random number generation.
+     *
+     * @param dm   Distance matrix used by the algorithm.
+     * @param fm   Flow matrix used by the algorithm.
+     * @param seed Seed for random number generation.
+     */
+    public TabuSearch(DistanceMatrix dm, FlowMatrix fm, long seed) {
+        this(dm, fm, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for the TabuSearch class with a given random number generator.
+     *
+     * @param dm     Distance matrix used by the algorithm.
+     * @param fm     Flow matrix used by the algorithm.
+     * @param random Random number generator.
+     * @throws IllegalArgumentException If the alphabet has more letters than the keyboard has keys.
+     */
+    private TabuSearch(DistanceMatrix dm, FlowMatrix fm, SplittableRandom random) {
+        super(dm, fm);
+        this.random = random;
+        this.distances = dm.toArray();
+        this.numKeys = distances.length;
+        this.numLetters = fm.matrix.size();
+        if (numLetters > numKeys) {
+            throw new IllegalArgumentException("The keyboard has fewer keys than the alphabet has letters");
+        }
+        double[][] f = fm.toArray();
+        int[] classes = fm.interchangeableClasses();
+        this.flows = new double[numKeys][numKeys];
+        this.letterClasses = new int[numKeys];
+        for (int x = 0; x < numKeys; ++x) {
+            if (x < numLetters) {
+                System.arraycopy(f[x], 0, flows[x], 0, numLetters);
+                letterClasses[x] = classes[x];
+            } else {
+                letterClasses[x] = numLetters;
+            }
+        }
+        this.outDistances = new double[numKeys];
+        this.inDistances = new double[numKeys];
+        this.outFlows = new double[numKeys];
+        this.inFlows = new double[numKeys];
+    }
+
+    /**
+     * Sets the maximum number of iterations. By default it is 100 for every key of the keyboard.
+     *
+     * @param maxIterations Maximum number of iterations, or 0 to scale it with the number of keys.
+     */
+    public void setMaxIterations(long maxIterations) {
+        this.maxIterations = Math.max(0, maxIterations);
+    }
+
+    /**
+     * Sets the maximum time the algorithm can run.
+     *
+     * @param timeLimitMillis Time limit in milliseconds, or 0 if there is no limit.
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        this.timeLimitMillis = Math.max(0, timeLimitMillis);
+    }
+
+    /**
+     * Sets the range of the number of iterations a swap stays tabu, which is drawn at random for every swap.
+     * By default it is between 90% and 110% of the number of keys.
+     *
+     * @param minTenure Minimum number of iterations, or 0 to use the default range.
+     * @param maxTenure Maximum number of iterations, or 0 to use the default range. It is raised to the minimum if
+     *                  it is lower.
+     */
+    public void setTabuTenure(int minTenure, int maxTenure) {
+        this.minTenure = Math.max(0, minTenure);
+        this.maxTenure = Math.max(this.minTenure, maxTenure);
+    }
+
+    /**
+     * Sets the number of iterations after which a letter that has not been on a key is forced onto it.
+     * This long term aspiration keeps the search from staying in one region of the layouts. By default it is 5n^2
+     * iterations.
+     *
+     * @param aspiration Number of iterations, or 0 to use the default.
+     */
+    public void setAspiration(long aspiration) {
+        this.aspiration = Math.max(0, aspiration);
+    }
+
+    /**
+     * Solves the key assignment problem using the robust tabu search.
+     */
+    @Override
+    public void solve() {
+        long start = System.currentTimeMillis();
+        int n = numKeys;
+        int[] layout = new int[n];
+        for (int k = 0; k < n; ++k) layout[k] = k;
+        for (int k = n - 1; k > 0; --k) LocalSearch.swap(layout, k, random.nextInt(k + 1));
+        int[] best = layout.clone();
+        if (numLetters > 1) {
+            search(layout, best, start);
+        }
+        bestAssignment = new ArrayList<>();
+        for (int letter : best) bestAssignment.add(letter < numLetters ? letter : -1);
+    }
+
+    /**
+     * Runs the tabu search from a layout.
+     *
+     * @param layout Layout where the search starts, with dummy letters on the empty keys. It is modified in place.
+     * @param best   Array where the best layout found is written.
+     * @param start  Time at which the algorithm started, in milliseconds.
+     */
+    private void search(int[] layout, int[] best, long start) {
+        int n = numKeys;
+        long iterations = maxIterations > 0 ? maxIterations : (long) ITERATIONS_PER_KEY * n;
+        int tMin = minTenure > 0 ? minTenure : Math.max(1, (int) (0.9 * n));
+        int tMax = maxTenure > 0 ? Math.max(maxTenure, tMin) : Math.max(tMin, (int) Math.ceil(1.1 * n));
+        long aspirationIterations = aspiration > 0 ? aspiration : 5L * n * n;
+        // Iteration until which every letter cannot return to every key, distinct so the first moves are not tied
+        long[][] tabu = new long[n][n];
+        for (int k = 0; k < n; ++k) {
+            for (int x = 0; x < n; ++x) tabu[k][x] = -((long) n * k + x);
+        }
+        double[][] delta = new double[n][n];
+        for (int r = 0; r < n - 1; ++r) {
+            for (int s = r + 1; s < n; ++s) delta[r][s] = swapDelta(layout, r, s);
+        }
+        double cost = cost(layout);
+        double bestCost = cost;
+        for (long iteration = 1; iteration <= iterations; ++iteration) {
+            if (timeLimitMillis > 0 && (iteration & 63) == 0 && System.currentTimeMillis() - start >= timeLimitMillis) {
+                break;
+            }
+            int moveR = -1;
+            int moveS = -1;
+            double moveDelta = Double.POSITIVE_INFINITY;
+            boolean alreadyAspired = false;
+            for (int r = 0; r < n - 1; ++r) {
+                for (int s = r + 1; s < n; ++s) {
+                    // Swapping interchangeable letters, or two empty keys, never changes the cost
+                    if (letterClasses[layout[r]] == letterClasses[layout[s]]) continue;
+                    double d = delta[r][s];
+                    long untilR = tabu[r][layout[s]];
+                    long untilS = tabu[s][layout[r]];
+                    boolean authorized = untilR < iteration || untilS < iteration;
+                    boolean aspired = untilR < iteration - aspirationIterations
+                            || untilS < iteration - aspirationIterations || cost + d < bestCost - EPSILON;
+                    if ((aspired && !alreadyAspired) || (aspired && d < moveDelta)
+                            || (!aspired && !alreadyAspired && authorized && d < moveDelta)) {
+                        moveR = r;
+                        moveS = s;
+                        moveDelta = d;
+                        if (aspired) alreadyAspired = true;
+                    }
+                }
+            }
+            // Every swap is tabu, which can only happen with a tenure close to the number of swaps
+            if (moveR == -1) continue;
+
+            LocalSearch.swap(layout, moveR, moveS);
+            cost += moveDelta;
+            tabu[moveR][layout[moveS]] = iteration + tMin + random.nextInt(tMax - tMin + 1);
+            tabu[moveS][layout[moveR]] = iteration + tMin + random.nextInt(tMax - tMin + 1);
+            if (cost < bestCost - EPSILON) {
+                bestCost = cost;
+                System.arraycopy(layout, 0, best, 0, n);
+            }
+            updateDeltas(layout, delta, moveR, moveS);
+        }
+    }
+
+    /**
+     * Updates the change of cost of every swap after the letters of two keys have been swapped.
+     * The O(1) update of Taillard for a swap of keys i and j that does not involve r or s is
+     * (a_ri - a_rj + a_sj - a_si)(b_{s,i} - b_{s,j} + b_{r,j} - b_{r,i})
+     * + (a_ir - a_jr + a_js - a_is)(b_{i,s} - b_{j,s} + b_{j,r} - b_{i,r}),
+     * where a are the distances, b_{x,y} is the flow between the letters of keys x and y after the swap, and every
+     * factor is the difference of a term of key i and the same term of key j, which are calculated once per key.
+     *
+     * @param layout Layout after the swap.
+     * @param delta  Change of cost of swapping every pair of keys r < s before the swap. It is modified in place.
+     * @param r      First key swapped.
+     * @param s      Second key swapped.
+     */
+    void updateDeltas(int[] layout, double[][] delta, int r, int s) {
+        int n = numKeys;
+        double[] flowsR = flows[layout[r]];
+        double[] flowsS = flows[layout[s]];
+        for (int k = 0; k < n; ++k) {
+            int x = layout[k];
+            outDistances[k] = distances[r][k] - distances[s][k];
+            inDistances[k] = distances[k][r] - distances[k][s];
+            outFlows[k] = flowsS[x] - flowsR[x];
+            inFlows[k] = flows[x][layout[s]] - flows[x][layout[r]];
+        }
+        for (int i = 0; i < n - 1; ++i) {
+            double[] row = delta[i];
+            if (i == r || i == s) {
+                for (int j = i + 1; j < n; ++j) row[j] = swapDelta(layout, i, j);
+                continue;
+            }
+            double outDistance = outDistances[i];
+            double inDistance = inDistances[i];
+            double outFlow = outFlows[i];
+            double inFlow = inFlows[i];
+            for (int j = i + 1; j < n; ++j) {
+                if (j == r || j == s) {
+                    row[j] = swapDelta(layout, i, j);
+                } else {
+                    row[j] += (outDistance - outDistances[j]) * (outFlow - outFlows[j])
+                            + (inDistance - inDistances[j]) * (inFlow - inFlows[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the change of cost of swapping the letters of two keys, without modifying the layout.
+     *
+     * @param layout Letter assigned to each key, with dummy letters on the empty keys.
+     * @param r      First key.
+     * @param s      Second key.
+     * @return Cost of the layout after the swap minus the cost before it.
+     */
+    double swapDelta(int[] layout, int r, int s) {
+        int a = layout[r];
+        int b = layout[s];
+        double d = (distances[r][r] - distances[s][s]) * (flows[b][b] - flows[a][a])
+                + (distances[r][s] - distances[s][r]) * (flows[b][a] - flows[a][b]);
+        for (int k = 0; k < numKeys; ++k) {
+            if (k == r || k == s) continue;
+            int c = layout[k];
+            d += (distances[k][r] - distances[k][s]) * (flows[c][b] - flows[c][a])
+                    + (distances[r][k] - distances[s][k]) * (flows[b][c] - flows[a][c]);
+        }
+        return d;
+    }
+
+    /**
+     * Calculates the cost of a layout.
+     *
+     * @param layout Letter assigned to each key, with dummy letters on the empty keys.
+     * @return Cost of the layout.
+     */
+    double cost(int[] layout) {
+        double cost = 0;
+        for (int t1 = 0; t1 < numKeys; ++t1) {
+            for (int t2 = 0; t2 < numKeys; ++t2) cost += distances[t1][t2] * flows[layout[t1]][layout[t2]];
+        }
+        return cost;
+    }
+}
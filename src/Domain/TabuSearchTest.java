@@ -0,0 +1,88 @@
+package Domain;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+public class TabuSearchTest {
+
+    private static final int NUM_KEYS = 20;
+    private TabuSearch tabuSearch;
+
+    @Before
+    public void setUp() {
+        // Preparamos las matrices de un teclado de 4x5 con 10 letras
+        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "y", " "));
+        HashMap<String, Integer> wordlist = new HashMap<>();
+        wordlist.put("hello", 4);
+        wordlist.put("duel", 5);
+        wordlist.put("bye", 6);
+        wordlist.put("ball", 10);
+        wordlist.put("all", 9);
+        DistanceMatrix distanceMatrix = new DistanceMatrix();
+        FlowMatrix flowMatrix = new FlowMatrix();
+        distanceMatrix.initializeMatrix(4, 5);
+        distanceMatrix.calculateDistanceMatrix(4, 5);
+        flowMatrix.initializeMatrix(alphabet.size());
+        flowMatrix.calculateTransitions(wordlist, alphabet);
+        tabuSearch = new TabuSearch(distanceMatrix, flowMatrix, 123456789L);
+    }
+
+    @Test
+    public void testSwapDelta() {
+        // El cambio de coste de cada intercambio coincide con la diferencia de los costes calculados desde cero
+        int[] layout = randomLayout(new SplittableRandom(123456789L));
+        double cost = tabuSearch.cost(layout);
+        for (int r = 0; r < NUM_KEYS - 1; ++r) {
+            for (int s = r + 1; s < NUM_KEYS; ++s) {
+                double delta = tabuSearch.swapDelta(layout, r, s);
+                LocalSearch.swap(layout, r, s);
+                assertEquals(tabuSearch.cost(layout) - cost, delta, 1e-9);
+                LocalSearch.swap(layout, r, s);
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateDeltas() {
+        // Calculamos el cambio de coste de todos los intercambios de una distribucion al azar
+        SplittableRandom random = new SplittableRandom(123456789L);
+        int[] layout = randomLayout(random);
+        double[][] delta = new double[NUM_KEYS][NUM_KEYS];
+        for (int r = 0; r < NUM_KEYS - 1; ++r) {
+            for (int s = r + 1; s < NUM_KEYS; ++s) delta[r][s] = tabuSearch.swapDelta(layout, r, s);
+        }
+
+        for (int i = 0; i < 200; ++i) {
+            // Hacemos un intercambio al azar y actualizamos los cambios de coste por diferencias
+            int r = random.nextInt(NUM_KEYS);
+            int s = random.nextInt(NUM_KEYS - 1);
+            if (s >= r) ++s;
+            LocalSearch.swap(layout, r, s);
+            tabuSearch.updateDeltas(layout, delta, Math.min(r, s), Math.max(r, s));
+
+            // Tras cada movimiento la matriz actualizada coincide con la calculada desde cero
+            for (int a = 0; a < NUM_KEYS - 1; ++a) {
+                for (int b = a + 1; b < NUM_KEYS; ++b) {
+                    assertEquals(tabuSearch.swapDelta(layout, a, b), delta[a][b], 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Crea una distribucion al azar con una letra ficticia en cada tecla vacia.
+     */
+    private int[] randomLayout(SplittableRandom random) {
+        int[] layout = new int[NUM_KEYS];
+        for (int k = 0; k < NUM_KEYS; ++k) layout[k] = k;
+        for (int k = NUM_KEYS - 1; k > 0; --k) LocalSearch.swap(layout, k, random.nextInt(k + 1));
+        return layout;
+    }
+}
@@ -0,0 +1,56 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Crossover that takes every letter from the key it has in one of the parents, chosen at random.
+ * If that key is already taken, the letter goes to the next free key, wrapping around the keyboard.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class UniformCrossover implements CrossoverOperator {
+    /** Probability of taking every letter from the first parent. */
+    private final double probability;
+    /** Key of every letter in the first parent. */
+    private final int[] fatherPositions;
+    /** Key of every letter in the second parent. */
+    private final int[] motherPositions;
+
+    /**
+     * Constructor for the UniformCrossover class.
+     *
+     * @param numLetters  Number of letters of the alphabet.
+     * @param probability Probability of taking every letter from the first parent.
+     */
+    public UniformCrossover(int numLetters, double probability) {
+        this.probability = probability;
+        this.fatherPositions = new int[numLetters];
+        this.motherPositions = new int[numLetters];
+    }
+
+    /**
+     * Crosses two layouts and writes the child.
+     *
+     * @param father Layout of the first parent.
+     * @param mother Layout of the second parent.
+     * @param random Random number generator.
+     * @param child  Array where the layout of the child is written, with one place for every key.
+     */
+    @Override
+    public void crossover(int[] father, int[] mother, RandomGenerator random, int[] child) {
+        int numKeys = child.length;
+        for (int k = 0; k < numKeys; ++k) {
+            if (father[k] != -1) fatherPositions[father[k]] = k;
+            if (mother[k] != -1) motherPositions[mother[k]] = k;
+        }
+        Arrays.fill(child, -1);
+        for (int i = 0; i < fatherPositions.length; i++) {
+            int j = random.nextDouble() <= probability ? fatherPositions[i] : motherPositions[i];
+            // Probe the next keys, wrapping around, so the letter is never lost
+            while (child[j] != -1) {
+                j = (j + 1) % numKeys;
+            }
+            child[j] = i;
+        }
+    }
+}
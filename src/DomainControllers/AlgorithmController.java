@@ -1,68 +1,133 @@
-package DomainControllers;
-
-import Domain.*;
-
-import java.util.*;
-
-/**
- * Controller for executing key assignment algorithms.
- * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
- */
-public class AlgorithmController {
-    /** HashMap to store algorithms that calculate the keyboard layout. */
-    private HashMap<String, Algorithm> algorithms;
-    /** Name of the algorithm that is being applied. */
-    private String algorithm;
-
-    /**
-     * Default constructor for the AlgorithmController class.
-     */
-    public AlgorithmController() {
-        algorithms = new HashMap<>();
-        algorithm = "";
-    }
-
-    /**
-     * Initializes the algorithm with distance and flow matrices.
-     *
-     * @param a         Set of characters (alphabet).
-     * @param wl        List of word maps with their frequencies.
-     * @param numRows   Number of rows in the matrix.
-     * @param numCols   Number of columns in the matrix.
-     * @param algorithm Type of algorithm (1 for Branch and Bound).
-     */
-    public void initializeAlgorithm(TreeSet<String> a, ArrayList<HashMap<String, Integer>> wl,
-                                    int numRows, int numCols, String algorithm) {
-        DistanceMatrix dm = new DistanceMatrix();
-        dm.initializeMatrix(numRows, numCols);
-        dm.calculateDistanceMatrix(numRows, numCols);
-        FlowMatrix fm = new FlowMatrix();
-        fm.initializeMatrix(a.size());
-        fm.calculateTransitions(wl.get(0), a);
-        for(int i = 1; i < wl.size(); ++i) {
-            FlowMatrix fm2 = new FlowMatrix();
-            fm2.initializeMatrix(a.size());
-            fm2.calculateTransitions(wl.get(i), a);
-            fm.sumMatrix(fm2.matrix);
-        }
-        if(Objects.equals(algorithm, "Branch and Bound")) {
-            BranchAndBound branchAndBound = new BranchAndBound(dm, fm);
-            algorithms.put(algorithm, branchAndBound);
-        }
-        else if(Objects.equals(algorithm, "Evolutive")) {
-            Evolutive evolutive = new Evolutive(dm, fm);
-            algorithms.put(algorithm, evolutive);
-        }
-        this.algorithm = algorithm;
-    }
-
-    /**
-     * Solves the key assignment problem using the algorithm.
-     *
-     * @return List of integers representing the best assignment found.
-     */
-    public ArrayList<Integer> solve() {
-        algorithms.get(algorithm).solve();
-        return algorithms.get(algorithm).bestAssignment;
-    }
-}
+package DomainControllers;
+
+import Domain.*;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Controller for executing key assignment algorithms.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class AlgorithmController {
+    /** HashMap to store algorithms that calculate the keyboard layout. */
+    private HashMap<String, Algorithm> algorithms;
+    /** Name of the algorithm that is being applied. */
+    private String algorithm;
+
+    /**
+     * Default constructor for the AlgorithmController class.
+     */
+    public AlgorithmController() {
+        algorithms = new HashMap<>();
+        algorithm = "";
+    }
+
+    /**
+     * Initializes the algorithm with distance and flow matrices.
+     *
+     * @param a         Set of characters (alphabet).
+     * @param wl        List of word maps with their frequencies.
+     * @param numRows   Number of rows in the matrix.
+     * @param numCols   Number of columns in the matrix.
+     * @param algorithm Type of algorithm (1 for Branch and Bound).
+     */
+    public void initializeAlgorithm(TreeSet<String> a, ArrayList<HashMap<String, Integer>> wl,
+                                    int numRows, int numCols, String algorithm) {
+        initializeAlgorithm(a, wl, numRows, numCols, algorithm, new EvolutiveConfig());
+    }
+
+    /**
+     * Initializes the algorithm with distance and flow matrices and the parameters of the evolutionary algorithm.
+     *
+     * @param a         Set of characters (alphabet).
+     * @param wl        List of word maps with their frequencies.
+     * @param numRows   Number of rows in the matrix.
+     * @param numCols   Number of columns in the matrix.
+     * @param algorithm Type of algorithm (1 for Branch and Bound).
+     * @param config    Parameters and stopping criteria of the evolutionary algorithm, ignored by the others.
+     */
+    public void initializeAlgorithm(TreeSet<String> a, ArrayList<HashMap<String, Integer>> wl,
+                                    int numRows, int numCols, String algorithm, EvolutiveConfig config) {
+        DistanceMatrix dm = new DistanceMatrix();
+        dm.initializeMatrix(numRows, numCols);
+        dm.calculateDistanceMatrix(numRows, numCols);
+        FlowMatrix fm = new FlowMatrix();
+        fm.initializeMatrix(a.size());
+        fm.calculateTransitions(wl.get(0), a);
+        for(int i = 1; i < wl.size(); ++i) {
+            FlowMatrix fm2 = new FlowMatrix();
+            fm2.initializeMatrix(a.size());
+            fm2.calculateTransitions(wl.get(i), a);
+            fm.sumMatrix(fm2.matrix);
+        }
+        if(Objects.equals(algorithm, "Branch and Bound")) {
+            BranchAndBound branchAndBound = new BranchAndBound(dm, fm);
+            branchAndBound.setParallelism(Runtime.getRuntime().availableProcessors());
+            algorithms.put(algorithm, branchAndBound);
+        }
+        else if(Objects.equals(algorithm, "Evolutive")) {
+            Evolutive evolutive = new Evolutive(dm, fm);
+            evolutive.setConfig(config);
+            evolutive.setIslands(Runtime.getRuntime().availableProcessors());
+            algorithms.put(algorithm, evolutive);
+        }
+        else if(Objects.equals(algorithm, "Simulated Annealing")) {
+            SimulatedAnnealing annealing = new SimulatedAnnealing(dm, fm);
+            annealing.setReplicas(Runtime.getRuntime().availableProcessors());
+            algorithms.put(algorithm, annealing);
+        }
+        else if(Objects.equals(algorithm, "Tabu Search")) {
+            algorithms.put(algorithm, new TabuSearch(dm, fm));
+        }
+        else if(Objects.equals(algorithm, "GRASP")) {
+            Grasp grasp = new Grasp(dm, fm);
+            grasp.setParallelism(Runtime.getRuntime().availableProcessors());
+            algorithms.put(algorithm, grasp);
+        }
+        else if(Objects.equals(algorithm, "Ant Colony")) {
+            AntColony antColony = new AntColony(dm, fm);
+            antColony.setParallelism(Runtime.getRuntime().availableProcessors());
+            algorithms.put(algorithm, antColony);
+        }
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Solves the key assignment problem using the algorithm.
+     *
+     * @return List of integers representing the best assignment found.
+     */
+    public ArrayList<Integer> solve() {
+        algorithms.get(algorithm).solve();
+        return algorithms.get(algorithm).bestAssignment;
+    }
+
+    /**
+     * Sets the function that receives the checkpoints of the algorithm, if it is Branch and Bound.
+     *
+     * @param handler        Function that receives the checkpoints, or null to take no checkpoints.
+     * @param intervalMillis Minimum time between two checkpoints, in milliseconds.
+     */
+    public void setCheckpointHandler(Consumer<BranchAndBoundCheckpoint> handler, long intervalMillis) {
+        Algorithm a = algorithms.get(algorithm);
+        if (a instanceof BranchAndBound) ((BranchAndBound) a).setCheckpointHandler(handler, intervalMillis);
+    }
+
+    /**
+     * Resumes the Branch and Bound algorithm from a checkpoint.
+     *
+     * @param checkpoint Checkpoint of a previous search of the same problem.
+     * @return List of integers representing the best assignment found.
+     * @throws IllegalArgumentException If the algorithm is not Branch and Bound, or the checkpoint belongs to a
+     *                                  different problem.
+     */
+    public ArrayList<Integer> resume(BranchAndBoundCheckpoint checkpoint) {
+        Algorithm a = algorithms.get(algorithm);
+        if (!(a instanceof BranchAndBound)) {
+            throw new IllegalArgumentException("Only Branch and Bound can be resumed from a checkpoint");
+        }
+        ((BranchAndBound) a).resume(checkpoint);
+        return a.bestAssignment;
+    }
+}
@@ -0,0 +1,150 @@
+package Persistence;
+
+import Domain.BranchAndBoundCheckpoint;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A class for handling the persistence of Branch and Bound checkpoints to and from a file.
+ * This class provides methods to check for the existence of the file, write a checkpoint to the file,
+ * read it from the file and delete the file. The checkpoint is stored in binary, because the live nodes of a
+ * long search can be millions.
+ * @author Rozhina Ahmadi, Jiahao Liu, Esther Lozano, and Bruno Ruano
+ */
+public class CheckpointPersistence {
+    /**
+     * Constructs a new CheckpointPersistence object.
+     */
+    public CheckpointPersistence() {
+
+    }
+
+    /**
+     * Checks if the checkpoint file exists.
+     *
+     * @return true if the checkpoint file exists, false otherwise.
+     */
+    public boolean existsFileCheckpoint() {
+        String directory = "./data";
+        String nameFile = "checkpoint.dat";
+
+        // Create a Path object with the complete file path
+        Path pathFile = Paths.get(directory, nameFile);
+
+        // Return true if the file exists
+        return Files.exists(pathFile);
+    }
+
+    /**
+     * Writes a checkpoint to the file, replacing the previous one.
+     * It is written to a temporary file first, so a crash while writing does not lose the previous checkpoint.
+     *
+     * @param checkpoint Checkpoint to be written to the file.
+     * @return true if the checkpoint is successfully written to the file, false otherwise.
+     */
+    public boolean writeFile(BranchAndBoundCheckpoint checkpoint) {
+        String directory = "./data";
+        String nameFile = "checkpoint.dat";
+
+        Path pathFile = Paths.get(directory, nameFile);
+        Path pathTemporary = Paths.get(directory, nameFile + ".tmp");
+        boolean written = false;
+
+        try {
+            Files.createDirectories(pathFile.getParent());
+
+            // Create a DataOutputStream to write the values in binary
+            DataOutputStream writer = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(pathTemporary.toFile())));
+
+            writer.writeInt(checkpoint.getProblemId());
+            writer.writeInt(checkpoint.getNumKeys());
+            writer.writeDouble(checkpoint.getBestCost());
+            byte[] bestLayout = checkpoint.getBestLayout();
+            writer.writeBoolean(bestLayout != null);
+            if (bestLayout != null) writer.write(bestLayout);
+            writer.writeInt(checkpoint.getNumNodes());
+            writer.write(checkpoint.getAssignments());
+            for (double partialCost : checkpoint.getPartialCosts()) writer.writeDouble(partialCost);
+            for (double cost : checkpoint.getCosts()) writer.writeDouble(cost);
+
+            // Close the writer
+            writer.close();
+
+            // Replace the previous checkpoint
+            Files.move(pathTemporary, pathFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            written = true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return written;
+    }
+
+    /**
+     * Reads the checkpoint from the file.
+     *
+     * @return The checkpoint read from the file, or null if it cannot be read.
+     */
+    public BranchAndBoundCheckpoint readFileCheckpoint() {
+        String directory = "./data";
+        String nameFile = "checkpoint.dat";
+
+        File f = new File(directory, nameFile);
+        BranchAndBoundCheckpoint checkpoint = null;
+
+        try {
+            // Create a DataInputStream to read the values in binary
+            DataInputStream reader = new DataInputStream(new BufferedInputStream(new FileInputStream(f)));
+
+            int problemId = reader.readInt();
+            int numKeys = reader.readInt();
+            double bestCost = reader.readDouble();
+            byte[] bestLayout = null;
+            if (reader.readBoolean()) {
+                bestLayout = new byte[numKeys];
+                reader.readFully(bestLayout);
+            }
+            int numNodes = reader.readInt();
+            byte[] assignments = new byte[numNodes * numKeys];
+            reader.readFully(assignments);
+            double[] partialCosts = new double[numNodes];
+            for (int i = 0; i < numNodes; ++i) partialCosts[i] = reader.readDouble();
+            double[] costs = new double[numNodes];
+            for (int i = 0; i < numNodes; ++i) costs[i] = reader.readDouble();
+
+            // Close the reader
+            reader.close();
+
+            checkpoint = new BranchAndBoundCheckpoint(problemId, numKeys, bestCost, bestLayout, assignments,
+                    partialCosts, costs);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Deletes the checkpoint file.
+     *
+     * @return true if the file is deleted, false otherwise.
+     */
+    public boolean deleteFileCheckpoint() {
+        String directory = "./data";
+        String nameFile = "checkpoint.dat";
+
+        boolean deleted = false;
+
+        try {
+            deleted = Files.deleteIfExists(Paths.get(directory, nameFile));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return deleted;
+    }
+}
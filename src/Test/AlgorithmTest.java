@@ -1,88 +1,609 @@
-package Test;
-
-import Domain.*;
-import org.junit.Before;
-import org.junit.Test;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.TreeSet;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-
-public class AlgorithmTest {
-
-    private DistanceMatrix distanceMatrix;
-    private FlowMatrix flowMatrix;
-    private ArrayList<Integer> assigmentBranchAndBound;
-
-    private ArrayList<Integer> assigmentEvolutive;
-
-    @Before
-    public void setUp() {
-
-        // Creamos un alfabeto y una lista de palabras con frecuencias
-        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "y", " "));
-        HashMap<String, Integer> wordlist = new HashMap<String, Integer>() {{
-            put("hello", 4);
-            put("duel", 5);
-            put("bye", 6);
-            put("ball", 10);
-            put("all", 9);
-        }};
-
-        // Creamos el resultado de la distribución que deberia dar el algoritmo
-        assigmentBranchAndBound = new ArrayList<>(Arrays.asList(3, 4, 7, 0, 1, 8, 5, 9, 6, 2, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1));
-        assigmentEvolutive = new ArrayList<>(Arrays.asList(-1, 2, -1, 1, 7, 9, 0, -1, 6, -1, -1, -1, -1, 8, 4, -1, 5, -1, 3, -1));
-        // Preparamos las matrices que ha de usar el algoritmo
-        distanceMatrix = new DistanceMatrix();
-        flowMatrix = new FlowMatrix();
-        distanceMatrix.initializeMatrix(4, 5);
-        distanceMatrix.calculateDistanceMatrix(4, 5);
-        flowMatrix.initializeMatrix(alphabet.size());
-        flowMatrix.calculateTransitions(wordlist, alphabet);
-
-    }
-
-    @Test
-    public void algorithmConstructorTest() {
-
-        // Creamos el algoritmo con sus matrices
-        Algorithm algorithm = new Algorithm(distanceMatrix, flowMatrix);
-
-
-        // Verificamos que se ha creado bien la estructura
-        assertNotNull(algorithm);
-        assertEquals(distanceMatrix, algorithm.distanceMatrix);
-        assertEquals(flowMatrix, algorithm.flowMatrix);
-    }
-
-    @Test
-    public void branchAndBoundSolveTest() {
-
-        // Creamos el algoritmo que queremos aplicar
-        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
-
-        // Hacemos que ejecute el algoritmo
-        branchAndBound.solve();
-
-        // Vereficamos que el resultado sea el correcto
-        assertNotNull(branchAndBound.bestAssignment);
-        assertEquals(assigmentBranchAndBound, branchAndBound.bestAssignment);
-    }
-    @Test
-    public void evolutiveSolveTest() {
-        // Fijamos la semilla para que el resultado sea reproducible
-        long seed = 123456789L; // Puedes elegir cualquier número como semilla
-
-        // Creamos la instancia de Evolutive con la semilla fija
-        Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, seed);
-        evolutive.solve();
-
-        // Ahora podemos verificar que la solución es la esperada
-        assertNotNull(evolutive.bestAssignment);
-        assertEquals(assigmentEvolutive, evolutive.bestAssignment);
-    }
-}
+package Test;
+
+import Domain.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class AlgorithmTest {
+
+    private DistanceMatrix distanceMatrix;
+    private FlowMatrix flowMatrix;
+    private ArrayList<Integer> assigmentBranchAndBound;
+
+    private ArrayList<Integer> assigmentEvolutive;
+
+    @Before
+    public void setUp() {
+
+        // Creamos un alfabeto y una lista de palabras con frecuencias
+        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "y", " "));
+        HashMap<String, Integer> wordlist = new HashMap<String, Integer>() {{
+            put("hello", 4);
+            put("duel", 5);
+            put("bye", 6);
+            put("ball", 10);
+            put("all", 9);
+        }};
+
+        // Creamos el resultado de la distribución que deberia dar el algoritmo
+        assigmentBranchAndBound = new ArrayList<>(Arrays.asList(7, 6, 1, -1, -1, 3, 0, 2, -1, -1, 8, 4, 9, -1, -1, -1, 5, -1, -1, -1));
+        assigmentEvolutive = new ArrayList<>(Arrays.asList(-1, -1, -1, -1, -1, -1, 7, 6, 1, -1, 5, 4, 0, 2, -1, -1, 8, 3, 9, -1));
+        // Preparamos las matrices que ha de usar el algoritmo
+        distanceMatrix = new DistanceMatrix();
+        flowMatrix = new FlowMatrix();
+        distanceMatrix.initializeMatrix(4, 5);
+        distanceMatrix.calculateDistanceMatrix(4, 5);
+        flowMatrix.initializeMatrix(alphabet.size());
+        flowMatrix.calculateTransitions(wordlist, alphabet);
+
+    }
+
+    @Test
+    public void algorithmConstructorTest() {
+
+        // Creamos el algoritmo con sus matrices
+        Algorithm algorithm = new Algorithm(distanceMatrix, flowMatrix);
+
+
+        // Verificamos que se ha creado bien la estructura
+        assertNotNull(algorithm);
+        assertEquals(distanceMatrix, algorithm.distanceMatrix);
+        assertEquals(flowMatrix, algorithm.flowMatrix);
+    }
+
+    @Test
+    public void branchAndBoundSolveTest() {
+
+        // Creamos el algoritmo que queremos aplicar
+        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
+
+        // Hacemos que ejecute el algoritmo
+        branchAndBound.solve();
+
+        // Vereficamos que el resultado sea el correcto
+        assertNotNull(branchAndBound.bestAssignment);
+        assertEquals(assigmentBranchAndBound, branchAndBound.bestAssignment);
+    }
+    @Test
+    public void branchAndBoundParallelSolveTest() {
+
+        // Creamos el algoritmo con varios hilos
+        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
+        branchAndBound.setParallelism(4);
+        branchAndBound.solve();
+
+        // Verificamos que el coste sea el optimo, aunque la distribucion puede ser otra con el mismo coste
+        assertNotNull(branchAndBound.bestAssignment);
+        assertEquals(cost(assigmentBranchAndBound), cost(branchAndBound.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundMemoryBoundedSolveTest() {
+
+        // Limitamos la cola a muy pocos nodos para que el algoritmo pase a explorar en profundidad
+        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
+        branchAndBound.setFrontierNodeBudget(50);
+        branchAndBound.solve();
+
+        // Verificamos que el coste siga siendo el optimo
+        assertNotNull(branchAndBound.bestAssignment);
+        assertEquals(cost(assigmentBranchAndBound), cost(branchAndBound.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundCheckpointResumeTest() {
+
+        // Guardamos un checkpoint antes de encontrar el optimo, con nodos pendientes de explorar
+        double optimum = cost(assigmentBranchAndBound);
+        ArrayList<BranchAndBoundCheckpoint> checkpoints = new ArrayList<>();
+        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
+        branchAndBound.setCheckpointHandler(checkpoints::add, 0);
+        branchAndBound.solve();
+        BranchAndBoundCheckpoint checkpoint = null;
+        for (BranchAndBoundCheckpoint c : checkpoints) {
+            if (c.getBestCost() > optimum + 1e-9 && c.getNumNodes() > 0) checkpoint = c;
+        }
+        assertNotNull(checkpoint);
+
+        // Reanudamos desde el checkpoint con otra instancia, tanto en secuencial como en paralelo
+        BranchAndBound resumed = new BranchAndBound(distanceMatrix, flowMatrix);
+        resumed.resume(checkpoint);
+        assertEquals(optimum, cost(resumed.bestAssignment), 1e-9);
+        BranchAndBound parallel = new BranchAndBound(distanceMatrix, flowMatrix);
+        parallel.setParallelism(4);
+        parallel.resume(checkpoint);
+        assertEquals(optimum, cost(parallel.bestAssignment), 1e-9);
+
+        // En paralelo los checkpoints guardan los nodos pendientes de cada hilo, todos por debajo de la raiz
+        ArrayList<BranchAndBoundCheckpoint> parallelCheckpoints = new ArrayList<>();
+        BranchAndBound checkpointed = new BranchAndBound(distanceMatrix, flowMatrix);
+        checkpointed.setParallelism(4);
+        checkpointed.setCheckpointHandler(parallelCheckpoints::add, 0);
+        checkpointed.solve();
+        assertEquals(optimum, cost(checkpointed.bestAssignment), 1e-9);
+        int numKeys = distanceMatrix.matrix.size();
+        BranchAndBoundCheckpoint deep = null;
+        for (BranchAndBoundCheckpoint c : parallelCheckpoints) {
+            int belowRoot = 0;
+            for (int n = 0; n < c.getNumNodes(); ++n) {
+                for (int k = 0; k < numKeys; ++k) {
+                    if (c.getAssignments()[n * numKeys + k] != -1) {
+                        ++belowRoot;
+                        break;
+                    }
+                }
+            }
+            if (c.getNumNodes() > 0 && belowRoot == c.getNumNodes()) deep = c;
+        }
+        assertNotNull(deep);
+
+        // Reanudar desde ese checkpoint tambien llega al optimo
+        BranchAndBound deepResumed = new BranchAndBound(distanceMatrix, flowMatrix);
+        deepResumed.resume(deep);
+        assertEquals(optimum, cost(deepResumed.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundInterchangeableLettersTest() {
+
+        // Anadimos al alfabeto dos letras que no aparecen en las palabras, y que por tanto son intercambiables
+        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "x", "y", "z", " "));
+        HashMap<String, Integer> wordlist = new HashMap<String, Integer>() {{
+            put("hello", 4);
+            put("duel", 5);
+            put("bye", 6);
+            put("ball", 10);
+            put("all", 9);
+        }};
+        FlowMatrix fm = new FlowMatrix();
+        fm.initializeMatrix(alphabet.size());
+        fm.calculateTransitions(wordlist, alphabet);
+
+        // Verificamos que el coste no cambia al colocar las letras intercambiables en un unico orden
+        BranchAndBound pruned = new BranchAndBound(distanceMatrix, fm);
+        pruned.solve();
+        BranchAndBound complete = new BranchAndBound(distanceMatrix, fm);
+        complete.setInterchangeablePruning(false);
+        complete.solve();
+        assertEquals(cost(complete.bestAssignment, fm), cost(pruned.bestAssignment, fm), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundBeamSearchTest() {
+
+        // La solucion inicial (colocacion voraz mejorada con intercambios) cuesta 172.157, por encima del optimo
+        double seedCost = 172.1574753455956;
+
+        // Con una anchura pequeña el algoritmo solo expande los mejores nodos de cada nivel
+        BranchAndBound narrow = new BranchAndBound(distanceMatrix, flowMatrix);
+        narrow.setBeamWidth(3);
+        narrow.solve();
+
+        // Verificamos que la distribucion sea completa y que mejore la solucion inicial sin superar el optimo
+        assertNotNull(narrow.bestAssignment);
+        assertEquals(distanceMatrix.matrix.size(), narrow.bestAssignment.size());
+        for (int letter = 0; letter < flowMatrix.matrix.size(); ++letter) {
+            assertTrue(narrow.bestAssignment.contains(letter));
+        }
+        assertTrue(cost(narrow.bestAssignment) < seedCost - 1e-9);
+        assertTrue(cost(narrow.bestAssignment) >= cost(assigmentBranchAndBound) - 1e-9);
+
+        // Con una anchura grande el algoritmo llega al optimo exacto
+        BranchAndBound wide = new BranchAndBound(distanceMatrix, flowMatrix);
+        wide.setBeamWidth(100);
+        wide.solve();
+        assertEquals(cost(assigmentBranchAndBound), cost(wide.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundKeysStrategyTest() {
+
+        // Con la estrategia por teclas las letras ocupan las primeras teclas del teclado
+        BranchAndBound branchAndBound = new BranchAndBound(distanceMatrix, flowMatrix);
+        branchAndBound.setBranchingStrategy(BranchAndBound.BranchingStrategy.KEYS);
+        branchAndBound.solve();
+
+        // Verificamos que sea el optimo de las primeras teclas
+        assertNotNull(branchAndBound.bestAssignment);
+        assertEquals(169.13114130660585, cost(branchAndBound.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void branchAndBoundKeysSymmetryBreakingTest() {
+
+        // En un teclado de 2x5 las 10 letras ocupan todas las teclas, asi que el algoritmo ramifica por teclas
+        DistanceMatrix dm = new DistanceMatrix();
+        dm.initializeMatrix(2, 5);
+        dm.calculateDistanceMatrix(2, 5);
+        ArrayList<BranchAndBoundCheckpoint> checkpoints = new ArrayList<>();
+        BranchAndBound pruned = new BranchAndBound(dm, flowMatrix);
+        pruned.setCheckpointHandler(checkpoints::add, 0);
+        pruned.solve();
+        BranchAndBound complete = new BranchAndBound(dm, flowMatrix);
+        complete.setSymmetryBreaking(false);
+        complete.solve();
+
+        // Verificamos que el coste no cambia al descartar las distribuciones simetricas
+        assertEquals(cost(complete.bestAssignment, dm, flowMatrix), cost(pruned.bestAssignment, dm, flowMatrix), 1e-9);
+
+        // Ni la distribucion encontrada ni los nodos pendientes de los checkpoints tienen una copia simetrica menor
+        int[] layout = new int[10];
+        for (int k = 0; k < 10; ++k) layout[k] = pruned.bestAssignment.get(k);
+        assertTrue(isLexLeader(layout, dm.symmetries()));
+        int numNodes = 0;
+        for (BranchAndBoundCheckpoint c : checkpoints) {
+            for (int n = 0; n < c.getNumNodes(); ++n, ++numNodes) {
+                for (int k = 0; k < 10; ++k) layout[k] = c.getAssignments()[n * 10 + k];
+                assertTrue(isLexLeader(layout, dm.symmetries()));
+            }
+        }
+        assertTrue(numNodes > 0);
+    }
+
+    @Test
+    public void evolutiveSolveTest() {
+        // Fijamos la semilla para que el resultado sea reproducible
+        long seed = 123456789L; // Puedes elegir cualquier número como semilla
+
+        // Creamos la instancia de Evolutive con la semilla fija
+        Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, seed);
+        evolutive.solve();
+
+        // Ahora podemos verificar que la solución es la esperada
+        assertNotNull(evolutive.bestAssignment);
+        assertEquals(assigmentEvolutive, evolutive.bestAssignment);
+    }
+
+    @Test
+    public void evolutiveParallelSolveTest() {
+        // Probamos la configuracion por defecto y otra con todas las mutaciones adaptativas y busqueda local
+        EvolutiveConfig memetic = new EvolutiveConfig();
+        memetic.setMaxGenerations(50);
+        memetic.setSegmentInversionProbability(0.2);
+        memetic.setAdaptiveOperators(true);
+        memetic.setMemeticRate(0.3);
+        for (EvolutiveConfig config : Arrays.asList(new EvolutiveConfig(), memetic)) {
+            Evolutive sequential = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+            sequential.setConfig(config);
+            sequential.solve();
+
+            // Con la misma semilla, repartir los hijos entre varios hilos da el mismo resultado que con uno solo
+            for (int threads = 2; threads <= 8; threads *= 2) {
+                Evolutive parallel = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+                parallel.setConfig(config);
+                parallel.setParallelism(threads);
+                parallel.solve();
+                assertEquals(sequential.bestAssignment, parallel.bestAssignment);
+            }
+        }
+    }
+
+    @Test
+    public void evolutiveEarlyStoppingTest() {
+        // Configuramos una poblacion pequena que se detiene al no mejorar en 5 generaciones
+        long seed = 123456789L;
+        EvolutiveConfig config = new EvolutiveConfig();
+        config.setPopulationSize(20);
+        config.setStagnationLimit(5);
+        Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, seed);
+        evolutive.setConfig(config);
+        evolutive.solve();
+
+        // Verificamos que coloca cada letra una sola vez
+        assertNotNull(evolutive.bestAssignment);
+        assertEquals(flowMatrix.matrix.size(), evolutive.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+
+        // Con un limite de tiempo el algoritmo tambien ha de devolver una distribucion valida
+        config.setStagnationLimit(0);
+        config.setTimeLimitMillis(1);
+        evolutive.setIslands(2);
+        evolutive.solve();
+        assertEquals(flowMatrix.matrix.size(), evolutive.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+    }
+
+    @Test
+    public void evolutiveMemeticSolveTest() {
+        // Mejoramos todos los hijos con una busqueda local, con muy pocas generaciones
+        for (LocalSearch.Strategy strategy : LocalSearch.Strategy.values()) {
+            EvolutiveConfig config = new EvolutiveConfig();
+            config.setMaxGenerations(10);
+            config.setMemeticRate(1);
+            config.setMemeticStrategy(strategy);
+            Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+            evolutive.setConfig(config);
+            evolutive.solve();
+
+            // Verificamos que la distribucion es valida y mejora la de 300 generaciones sin busqueda local
+            assertEquals(flowMatrix.matrix.size(), evolutive.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+            assertTrue(cost(evolutive.bestAssignment) <= cost(assigmentEvolutive) + 1e-9);
+        }
+    }
+
+    @Test
+    public void evolutiveCrossoverOperatorsTest() {
+        // El cruce uniforme es el de por defecto, asi que con la misma semilla da la distribucion de siempre
+        for (CrossoverOperator.Type type : CrossoverOperator.Type.values()) {
+            EvolutiveConfig config = new EvolutiveConfig();
+            config.setCrossover(type);
+            Evolutive evolutive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+            evolutive.setConfig(config);
+            evolutive.solve();
+            assertEquals(flowMatrix.matrix.size(), evolutive.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+
+            // Los demas operadores se usan de verdad, asi que la busqueda sigue otro camino
+            assertEquals(type == CrossoverOperator.Type.UNIFORM, assigmentEvolutive.equals(evolutive.bestAssignment));
+        }
+    }
+
+    @Test
+    public void evolutiveAdaptiveOperatorsTest() {
+        // Invertimos segmentos con probabilidad fija, y despues adaptando las probabilidades de las mutaciones
+        EvolutiveConfig config = new EvolutiveConfig();
+        config.setSegmentInversionProbability(0.2);
+        Evolutive fixed = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+        fixed.setConfig(config);
+        fixed.solve();
+        config.setAdaptiveOperators(true);
+        Evolutive adaptive = new Evolutive(distanceMatrix, flowMatrix, 123456789L);
+        adaptive.setConfig(config);
+        adaptive.solve();
+
+        // Verificamos que la distribucion es valida y que con la misma semilla la busqueda sigue otro camino
+        assertEquals(flowMatrix.matrix.size(), adaptive.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertTrue(!fixed.bestAssignment.equals(adaptive.bestAssignment));
+    }
+
+    @Test
+    public void simulatedAnnealingSolveTest() {
+        // Fijamos la semilla y el numero de iteraciones para que el resultado sea reproducible
+        SimulatedAnnealing first = new SimulatedAnnealing(distanceMatrix, flowMatrix, 123456789L);
+        first.setMaxIterations(200000);
+        first.solve();
+        SimulatedAnnealing second = new SimulatedAnnealing(distanceMatrix, flowMatrix, 123456789L);
+        second.setMaxIterations(200000);
+        second.solve();
+
+        // Verificamos que la distribucion es valida, reproducible y tan buena como la optima
+        assertEquals(first.bestAssignment, second.bestAssignment);
+        assertEquals(flowMatrix.matrix.size(), first.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertEquals(cost(assigmentBranchAndBound), cost(first.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void simulatedAnnealingCoolingSchedulesTest() {
+        for (SimulatedAnnealing.CoolingSchedule schedule : SimulatedAnnealing.CoolingSchedule.values()) {
+            // La temperatura empieza en la inicial, baja durante la ejecucion y acaba en la final
+            assertEquals(10, schedule.temperature(10, 0.01, 0), 1e-9);
+            assertEquals(0.01, schedule.temperature(10, 0.01, 1), 1e-9);
+            assertTrue(schedule.temperature(10, 0.01, 0.5) < 10);
+            assertTrue(schedule.temperature(10, 0.01, 0.5) > 0.01);
+
+            // Resolvemos con cada esquema, recalentando y con un limite de tiempo
+            SimulatedAnnealing annealing = new SimulatedAnnealing(distanceMatrix, flowMatrix, 123456789L);
+            annealing.setCoolingSchedule(schedule);
+            annealing.setMaxIterations(200000);
+            annealing.setTimeLimit(10000);
+            annealing.setReheating(5000, 0.5);
+            annealing.solve();
+            assertEquals(flowMatrix.matrix.size(), annealing.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+            assertTrue(cost(annealing.bestAssignment) <= cost(assigmentEvolutive) + 1e-9);
+        }
+    }
+
+    @Test
+    public void simulatedAnnealingParallelTemperingTest() {
+        // Con un presupuesto largo las replicas llegan al optimo
+        SimulatedAnnealing annealing = new SimulatedAnnealing(distanceMatrix, flowMatrix, 123456789L);
+        annealing.setReplicas(4);
+        annealing.setExchangeInterval(500);
+        annealing.setMaxIterations(50000);
+        annealing.solve();
+        assertEquals(flowMatrix.matrix.size(), annealing.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertEquals(cost(assigmentBranchAndBound), cost(annealing.bestAssignment), 1e-9);
+
+        // Con un presupuesto corto comparamos los intercambios cada 50 iteraciones con no intercambiar, porque con
+        // un intervalo igual al presupuesto las replicas solo se intercambian al final, cuando ya no importa
+        double withExchanges = 0;
+        double withoutExchanges = 0;
+        for (long seed = 1; seed <= 20; ++seed) {
+            SimulatedAnnealing exchanging = new SimulatedAnnealing(distanceMatrix, flowMatrix, seed);
+            exchanging.setReplicas(4);
+            exchanging.setExchangeInterval(50);
+            exchanging.setMaxIterations(1000);
+            exchanging.solve();
+            withExchanges += cost(exchanging.bestAssignment);
+            SimulatedAnnealing independent = new SimulatedAnnealing(distanceMatrix, flowMatrix, seed);
+            independent.setReplicas(4);
+            independent.setExchangeInterval(1000);
+            independent.setMaxIterations(1000);
+            independent.solve();
+            withoutExchanges += cost(independent.bestAssignment);
+        }
+
+        // Verificamos que los intercambios llevan las buenas distribuciones a las replicas frias y mejoran la media
+        assertTrue(withExchanges < withoutExchanges);
+    }
+
+    @Test
+    public void tabuSearchSolveTest() {
+        TabuSearch tabuSearch = new TabuSearch(distanceMatrix, flowMatrix, 123456789L);
+        tabuSearch.solve();
+
+        // Verificamos que la distribucion es valida y tan buena como la optima
+        assertEquals(flowMatrix.matrix.size(), tabuSearch.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertEquals(cost(assigmentBranchAndBound), cost(tabuSearch.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void tabuSearchParametersTest() {
+        // Cambiamos la duracion de los movimientos tabu, la aspiracion y el limite de tiempo
+        TabuSearch tabuSearch = new TabuSearch(distanceMatrix, flowMatrix, 123456789L);
+        tabuSearch.setTabuTenure(5, 8);
+        tabuSearch.setAspiration(500);
+        tabuSearch.setTimeLimit(10000);
+        tabuSearch.solve();
+
+        // Verificamos que la distribucion sigue siendo valida y optima
+        assertEquals(flowMatrix.matrix.size(), tabuSearch.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertEquals(cost(assigmentBranchAndBound), cost(tabuSearch.bestAssignment), 1e-9);
+    }
+
+    @Test
+    public void graspSolveTest() {
+        // Cada reinicio tiene sus propios numeros aleatorios, asi que el resultado no depende del numero de hilos
+        Grasp sequential = new Grasp(distanceMatrix, flowMatrix, 123456789L);
+        sequential.solve();
+        Grasp parallel = new Grasp(distanceMatrix, flowMatrix, 123456789L);
+        parallel.setParallelism(4);
+        parallel.solve();
+        assertEquals(sequential.bestAssignment, parallel.bestAssignment);
+        assertEquals(cost(assigmentBranchAndBound), cost(sequential.bestAssignment), 1e-9);
+
+        // Cada distribucion se mejora con la busqueda local, asi que ningun intercambio de dos teclas la mejora
+        assertTrue(isSwapLocalOptimum(sequential.bestAssignment));
+
+        // Los primeros reinicios son los mismos con la misma semilla, asi que con mas reinicios nunca empeora
+        double previous = Double.MAX_VALUE;
+        for (int restarts = 1; restarts <= 64; restarts *= 2) {
+            Grasp grasp = new Grasp(distanceMatrix, flowMatrix, 123456789L);
+            grasp.setRestarts(restarts);
+            grasp.solve();
+            assertTrue(isSwapLocalOptimum(grasp.bestAssignment));
+            assertTrue(cost(grasp.bestAssignment) <= previous + 1e-9);
+            previous = cost(grasp.bestAssignment);
+        }
+    }
+
+    @Test
+    public void graspGreedinessTest() {
+        // Con una construccion totalmente voraz o totalmente aleatoria la distribucion sigue siendo valida
+        for (double alpha : new double[]{0, 1}) {
+            Grasp grasp = new Grasp(distanceMatrix, flowMatrix, 123456789L);
+            grasp.setGreediness(alpha);
+            grasp.setRestarts(10);
+            grasp.setTimeLimit(10000);
+            grasp.solve();
+            assertEquals(flowMatrix.matrix.size(), grasp.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+            assertTrue(cost(grasp.bestAssignment) <= cost(assigmentEvolutive) + 1e-9);
+        }
+    }
+
+    @Test
+    public void antColonySolveTest() {
+        // Cada hormiga tiene sus propios numeros aleatorios, asi que el resultado no depende del numero de hilos
+        AntColony sequential = new AntColony(distanceMatrix, flowMatrix, 123456789L);
+        sequential.solve();
+        AntColony parallel = new AntColony(distanceMatrix, flowMatrix, 123456789L);
+        parallel.setParallelism(4);
+        parallel.solve();
+        assertEquals(sequential.bestAssignment, parallel.bestAssignment);
+        assertEquals(cost(assigmentBranchAndBound), cost(sequential.bestAssignment), 1e-9);
+
+        // Cada hormiga mejora su distribucion con la busqueda local, asi que ningun intercambio la mejora
+        assertTrue(isSwapLocalOptimum(sequential.bestAssignment));
+
+        // Las primeras iteraciones son las mismas con la misma semilla, asi que con mas iteraciones nunca empeora,
+        // y con esta semilla las feromonas llevan de 162.18 en la primera iteracion hasta el optimo
+        double first = 0;
+        double previous = Double.MAX_VALUE;
+        for (int iterations = 1; iterations <= 64; iterations *= 2) {
+            AntColony antColony = new AntColony(distanceMatrix, flowMatrix, 3L);
+            antColony.setMaxIterations(iterations);
+            antColony.solve();
+            assertTrue(cost(antColony.bestAssignment) <= previous + 1e-9);
+            previous = cost(antColony.bestAssignment);
+            if (iterations == 1) first = previous;
+        }
+        assertTrue(previous < first - 1e-9);
+        assertEquals(cost(assigmentBranchAndBound), previous, 1e-9);
+    }
+
+    @Test
+    public void antColonyParametersTest() {
+        // Con una sola hormiga, pocas iteraciones y limite de tiempo la distribucion sigue siendo valida
+        AntColony antColony = new AntColony(distanceMatrix, flowMatrix, 123456789L);
+        antColony.setAnts(1);
+        antColony.setMaxIterations(3);
+        antColony.setTimeLimit(10000);
+        antColony.solve();
+        assertEquals(flowMatrix.matrix.size(), antColony.bestAssignment.stream().filter(x -> x != -1).distinct().count());
+        assertTrue(cost(antColony.bestAssignment) <= cost(assigmentEvolutive) + 1e-9);
+    }
+
+    /**
+     * Comprueba que ningun intercambio de las letras de dos teclas baja el coste de una distribucion.
+     */
+    private boolean isSwapLocalOptimum(ArrayList<Integer> assignment) {
+        double cost = cost(assignment);
+        ArrayList<Integer> swapped = new ArrayList<>(assignment);
+        for (int a = 0; a < swapped.size(); ++a) {
+            for (int b = a + 1; b < swapped.size(); ++b) {
+                Collections.swap(swapped, a, b);
+                boolean improves = cost(swapped) < cost - 1e-9;
+                Collections.swap(swapped, a, b);
+                if (improves) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el coste de una distribucion con las matrices de la prueba.
+     */
+    private double cost(ArrayList<Integer> assignment) {
+        return cost(assignment, flowMatrix);
+    }
+
+    /**
+     * Comprueba que ninguna copia simetrica de una distribucion, leida tecla a tecla hasta que la copia o la
+     * distribucion llegan a una tecla vacia, es menor que ella, comparando las letras intercambiables como iguales.
+     */
+    private boolean isLexLeader(int[] layout, ArrayList<int[]> symmetries) {
+        int[] classes = flowMatrix.interchangeableClasses();
+        for (int[] symmetry : symmetries) {
+            for (int k = 0; k < layout.length; ++k) {
+                if (layout[k] == -1 || layout[symmetry[k]] == -1) break;
+                int original = classes[layout[k]];
+                int image = classes[layout[symmetry[k]]];
+                if (image < original) return false;
+                if (image > original) break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el coste de una distribucion con la matriz de distancias de la prueba y la matriz de flujos dada.
+     */
+    private double cost(ArrayList<Integer> assignment, FlowMatrix fm) {
+        return cost(assignment, distanceMatrix, fm);
+    }
+
+    /**
+     * Calcula el coste de una distribucion con las matrices de distancias y de flujos dadas.
+     */
+    private double cost(ArrayList<Integer> assignment, DistanceMatrix dm, FlowMatrix fm) {
+        double cost = 0;
+        for (int t1 = 0; t1 < assignment.size(); t1++) {
+            for (int t2 = 0; t2 < assignment.size(); t2++) {
+                int x = assignment.get(t1);
+                int y = assignment.get(t2);
+                if (x != -1 && y != -1) {
+                    cost += dm.matrix.get(t1).get(t2) * fm.matrix.get(x).get(y);
+                }
+            }
+        }
+        return cost;
+    }
+}
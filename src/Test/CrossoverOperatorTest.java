@@ -0,0 +1,45 @@
+package Test;
+
+import Domain.CrossoverOperator;
+import Domain.CycleCrossover;
+import Domain.OrderCrossover;
+import Domain.PartiallyMappedCrossover;
+import Domain.UniformCrossover;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CrossoverOperatorTest {
+
+    @Test
+    public void testCreate() {
+        // Cada tipo crea su operador
+        assertTrue(CrossoverOperator.Type.UNIFORM.create(10, 20, 0.5) instanceof UniformCrossover);
+        assertTrue(CrossoverOperator.Type.PMX.create(10, 20, 0.5) instanceof PartiallyMappedCrossover);
+        assertTrue(CrossoverOperator.Type.ORDER.create(10, 20, 0.5) instanceof OrderCrossover);
+        assertTrue(CrossoverOperator.Type.CYCLE.create(10, 20, 0.5) instanceof CycleCrossover);
+    }
+
+    @Test
+    public void testCrossover() {
+        // Cruzamos dos distribuciones con teclas vacias en posiciones distintas
+        int[] father = {3, -1, 0, 1, -1, 2};
+        int[] mother = {-1, 2, 1, -1, 0, 3};
+        SplittableRandom random = new SplittableRandom(7);
+        for (CrossoverOperator.Type type : CrossoverOperator.Type.values()) {
+            CrossoverOperator operator = type.create(4, 6, 0.5);
+            for (int i = 0; i < 100; ++i) {
+                int[] child = new int[6];
+                operator.crossover(father, mother, random, child);
+
+                // Verificamos que cada letra esta en una sola tecla y que quedan dos teclas vacias
+                assertEquals(4, Arrays.stream(child).filter(x -> x != -1).distinct().count());
+                assertEquals(2, Arrays.stream(child).filter(x -> x == -1).count());
+            }
+        }
+    }
+}
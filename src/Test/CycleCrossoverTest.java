@@ -0,0 +1,27 @@
+package Test;
+
+import Domain.CycleCrossover;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertTrue;
+
+public class CycleCrossoverTest {
+
+    @Test
+    public void testCrossover() {
+        int[] father = {3, -1, 0, 1, -1, 2};
+        int[] mother = {-1, 2, 1, -1, 0, 3};
+        CycleCrossover operator = new CycleCrossover(4, 6);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100; ++i) {
+            // Cada letra del hijo esta en la tecla que ocupa en uno de los padres
+            int[] child = new int[6];
+            operator.crossover(father, mother, random, child);
+            for (int k = 0; k < 6; ++k) {
+                assertTrue(child[k] == -1 || child[k] == father[k] || child[k] == mother[k]);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package Test;
+
+import Domain.DistanceMatrix;
+import Domain.FlowMatrix;
+import Domain.GilmoreLawlerBound;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GilmoreLawlerBoundTest {
+
+    private DistanceMatrix distanceMatrix;
+    private FlowMatrix flowMatrix;
+    private ArrayList<Integer> optimum;
+
+    @Before
+    public void setUp() {
+
+        // Creamos un alfabeto y una lista de palabras con frecuencias
+        TreeSet<String> alphabet = new TreeSet<>(Arrays.asList("a", "b", "d", "e", "h", "l", "o", "u", "y", " "));
+        HashMap<String, Integer> wordlist = new HashMap<String, Integer>() {{
+            put("hello", 4);
+            put("duel", 5);
+            put("bye", 6);
+            put("ball", 10);
+            put("all", 9);
+        }};
+
+        // Distribucion optima del teclado de 4 por 5, de coste 154.38
+        optimum = new ArrayList<>(Arrays.asList(7, 6, 1, -1, -1, 3, 0, 2, -1, -1, 8, 4, 9, -1, -1, -1, 5, -1, -1, -1));
+        distanceMatrix = new DistanceMatrix();
+        flowMatrix = new FlowMatrix();
+        distanceMatrix.initializeMatrix(4, 5);
+        distanceMatrix.calculateDistanceMatrix(4, 5);
+        flowMatrix.initializeMatrix(alphabet.size());
+        flowMatrix.calculateTransitions(wordlist, alphabet);
+    }
+
+    @Test
+    public void testCalculate() {
+
+        // Creamos la cota inferior con las matrices del teclado
+        GilmoreLawlerBound bound = new GilmoreLawlerBound(distanceMatrix, flowMatrix);
+
+        // Sin letras colocadas la cota no puede superar el coste optimo
+        int[] keyOfLetter = new int[flowMatrix.matrix.size()];
+        Arrays.fill(keyOfLetter, -1);
+        assertTrue(bound.calculate(keyOfLetter) <= 154.38477631085024);
+
+        // Con todas las letras colocadas la cota es el coste exacto de la distribucion
+        for (int k = 0; k < optimum.size(); ++k) {
+            if (optimum.get(k) != -1) keyOfLetter[optimum.get(k)] = k;
+        }
+        assertEquals(154.38477631085024, bound.calculate(keyOfLetter), 1e-9);
+    }
+
+    @Test
+    public void testSetParent() {
+
+        // Colocamos algunas letras al azar en teclas libres, con distintos niveles del arbol
+        int numLetters = flowMatrix.matrix.size();
+        int numKeys = distanceMatrix.matrix.size();
+        SplittableRandom random = new SplittableRandom(123456789L);
+        GilmoreLawlerBound warm = new GilmoreLawlerBound(distanceMatrix, flowMatrix);
+        for (int placed = 0; placed < numLetters - 1; ++placed) {
+            int[] parent = new int[numLetters];
+            Arrays.fill(parent, -1);
+            boolean[] used = new boolean[numKeys];
+            for (int letter = 0; letter < placed; ++letter) {
+                int key;
+                do key = random.nextInt(numKeys); while (used[key]);
+                used[key] = true;
+                parent[letter] = key;
+            }
+
+            // La cota del padre y la de cada hijo calculada desde el padre coinciden con las calculadas desde cero
+            assertEquals(coldBound(parent), warm.setParent(parent), 1e-9);
+            ArrayList<int[]> children = new ArrayList<>();
+            for (int key = 0; key < numKeys; ++key) {
+                if (used[key]) continue;
+                int[] child = parent.clone();
+                child[placed] = key;
+                children.add(child);
+                assertEquals(coldBound(child), warm.calculate(child), 1e-9);
+            }
+
+            // Un hijo que no es el ultimo calculado pasa a ser el padre de los nietos
+            int[] child = children.get(0);
+            assertEquals(coldBound(child), warm.setParent(child), 1e-9);
+            for (int key = 0; key < numKeys && placed + 1 < numLetters; ++key) {
+                if (used[key] || key == child[placed]) continue;
+                int[] grandchild = child.clone();
+                grandchild[placed + 1] = key;
+                assertEquals(coldBound(grandchild), warm.calculate(grandchild), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Calcula la cota de Gilmore-Lawler de una asignacion parcial desde cero, sin partir de ningun padre.
+     */
+    private double coldBound(int[] keyOfLetter) {
+        return new GilmoreLawlerBound(distanceMatrix, flowMatrix).calculate(keyOfLetter);
+    }
+}
@@ -0,0 +1,91 @@
+package Test;
+
+import Domain.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HungarianAlgorithmTest {
+
+    private static final int NUM_ROWS = 5;
+    private static final int NUM_COLS = 7;
+
+    @Test
+    public void testSolve() {
+        // Resolvemos matrices al azar con mas columnas que filas
+        SplittableRandom random = new SplittableRandom(123456789L);
+        HungarianAlgorithm hungarian = new HungarianAlgorithm(NUM_COLS);
+        for (int i = 0; i < 50; ++i) {
+            double[][] cost = randomCost(random);
+            double total = hungarian.solve(cost, NUM_ROWS, NUM_COLS);
+
+            // El coste es el minimo y la asignacion da cada fila a una columna distinta con ese coste
+            assertEquals(bruteForce(cost, 0, new boolean[NUM_COLS]), total, 1e-9);
+            assertEquals(total, assignmentCost(cost, hungarian.getAssignment()), 1e-9);
+        }
+    }
+
+    @Test
+    public void testSolveFromPreviousSolution() {
+        // Cambiamos una fila de una matriz ya resuelta y la resolvemos partiendo de la solucion anterior
+        SplittableRandom random = new SplittableRandom(123456789L);
+        HungarianAlgorithm hungarian = new HungarianAlgorithm(NUM_COLS);
+        for (int i = 0; i < 50; ++i) {
+            double[][] cost = randomCost(random);
+            hungarian.solve(cost, NUM_ROWS, NUM_COLS);
+            double[] potentials = new double[NUM_COLS];
+            for (int j = 0; j < NUM_COLS; ++j) potentials[j] = hungarian.getColumnPotential(j);
+            int[] previous = hungarian.getAssignment().clone();
+            int row = random.nextInt(NUM_ROWS);
+            for (int j = 0; j < NUM_COLS; ++j) cost[row][j] = random.nextInt(20);
+
+            // Se obtiene el mismo coste minimo que resolviendo desde cero
+            double total = hungarian.solve(cost, NUM_ROWS, NUM_COLS, potentials, previous);
+            assertEquals(bruteForce(cost, 0, new boolean[NUM_COLS]), total, 1e-9);
+            assertEquals(total, assignmentCost(cost, hungarian.getAssignment()), 1e-9);
+        }
+    }
+
+    /**
+     * Crea una matriz de costes enteros al azar.
+     */
+    private double[][] randomCost(SplittableRandom random) {
+        double[][] cost = new double[NUM_ROWS][NUM_COLS];
+        for (double[] row : cost) {
+            for (int j = 0; j < NUM_COLS; ++j) row[j] = random.nextInt(20);
+        }
+        return cost;
+    }
+
+    /**
+     * Calcula el coste minimo de asignar las filas desde una dada probando todas las columnas libres.
+     */
+    private double bruteForce(double[][] cost, int row, boolean[] used) {
+        if (row == NUM_ROWS) return 0;
+        double best = Double.MAX_VALUE;
+        for (int j = 0; j < NUM_COLS; ++j) {
+            if (used[j]) continue;
+            used[j] = true;
+            best = Math.min(best, cost[row][j] + bruteForce(cost, row + 1, used));
+            used[j] = false;
+        }
+        return best;
+    }
+
+    /**
+     * Comprueba que una asignacion usa columnas distintas y calcula su coste.
+     */
+    private double assignmentCost(double[][] cost, int[] assignment) {
+        boolean[] used = new boolean[NUM_COLS];
+        double total = 0;
+        for (int i = 0; i < NUM_ROWS; ++i) {
+            assertTrue(!used[assignment[i]]);
+            used[assignment[i]] = true;
+            total += cost[i][assignment[i]];
+        }
+        return total;
+    }
+}
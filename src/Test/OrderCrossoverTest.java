@@ -0,0 +1,66 @@
+package Test;
+
+import Domain.OrderCrossover;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderCrossoverTest {
+
+    @Test
+    public void testCrossover() {
+        int[] father = {3, -1, 0, 1, -1, 2};
+        int[] mother = {-1, 2, 1, -1, 0, 3};
+        OrderCrossover operator = new OrderCrossover(4, 6);
+        for (int a = 0; a < 6; ++a) {
+            for (int b = a; b < 6; ++b) {
+                // Fijamos el segmento [a, b] que se copia del primer padre
+                int[] child = new int[6];
+                operator.crossover(father, mother, fixedRandom(a, b), child);
+                for (int k = a; k <= b; ++k) assertEquals(father[k], child[k]);
+
+                // El resto de letras siguen el orden de la madre, empezando despues del segmento
+                ArrayList<Integer> childOrder = new ArrayList<>();
+                ArrayList<Integer> motherOrder = new ArrayList<>();
+                for (int i = 1; i <= 6; ++i) {
+                    int k = (b + i) % 6;
+                    if ((k < a || k > b) && child[k] != -1) childOrder.add(child[k]);
+                    if (mother[k] != -1 && !contains(father, a, b, mother[k])) motherOrder.add(mother[k]);
+                }
+                assertEquals(motherOrder, childOrder);
+            }
+        }
+    }
+
+    /**
+     * Crea un generador que devuelve los enteros dados en orden, para fijar el segmento de los cruces.
+     */
+    private RandomGenerator fixedRandom(int... values) {
+        return new RandomGenerator() {
+            private int next = 0;
+
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int nextInt(int bound) {
+                return values[next++];
+            }
+        };
+    }
+
+    /**
+     * Comprueba si una letra esta en las teclas [a, b] de una distribucion.
+     */
+    private boolean contains(int[] layout, int a, int b, int letter) {
+        for (int k = a; k <= b; ++k) {
+            if (layout[k] == letter) return true;
+        }
+        return false;
+    }
+}
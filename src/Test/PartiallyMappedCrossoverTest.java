@@ -0,0 +1,69 @@
+package Test;
+
+import Domain.PartiallyMappedCrossover;
+import org.junit.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PartiallyMappedCrossoverTest {
+
+    @Test
+    public void testCrossover() {
+        // Ejemplo clasico de Goldberg y Lingle: las letras repetidas se sustituyen siguiendo la correspondencia
+        int[] child = new int[9];
+        new PartiallyMappedCrossover(9, 9).crossover(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8},
+                new int[]{3, 4, 1, 0, 7, 6, 5, 8, 2}, fixedRandom(3, 6), child);
+        assertArrayEquals(new int[]{0, 7, 1, 3, 4, 5, 6, 8, 2}, child);
+
+        int[] father = {3, -1, 0, 1, -1, 2};
+        int[] mother = {-1, 2, 1, -1, 0, 3};
+        PartiallyMappedCrossover operator = new PartiallyMappedCrossover(4, 6);
+        for (int a = 0; a < 6; ++a) {
+            for (int b = a; b < 6; ++b) {
+                // Fijamos el segmento [a, b] que se copia del primer padre
+                child = new int[6];
+                operator.crossover(father, mother, fixedRandom(a, b), child);
+                for (int k = 0; k < 6; ++k) {
+                    if (k >= a && k <= b) {
+                        assertEquals(father[k], child[k]);
+                    } else if (mother[k] != -1 && !contains(father, a, b, mother[k])) {
+                        // Fuera del segmento las letras de la madre que no estan en el segmento no se mueven
+                        assertEquals(mother[k], child[k]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Crea un generador que devuelve los enteros dados en orden, para fijar el segmento de los cruces.
+     */
+    private RandomGenerator fixedRandom(int... values) {
+        return new RandomGenerator() {
+            private int next = 0;
+
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int nextInt(int bound) {
+                return values[next++];
+            }
+        };
+    }
+
+    /**
+     * Comprueba si una letra esta en las teclas [a, b] de una distribucion.
+     */
+    private boolean contains(int[] layout, int a, int b, int letter) {
+        for (int k = a; k <= b; ++k) {
+            if (layout[k] == letter) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package Test;
+
+import Domain.UniformCrossover;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class UniformCrossoverTest {
+
+    @Test
+    public void testCrossover() {
+        int[] father = {3, -1, 0, 1, -1, 2};
+        int[] mother = {-1, 2, 1, -1, 0, 3};
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Con probabilidad 1 todas las letras se toman del primer padre
+        int[] child = new int[6];
+        new UniformCrossover(4, 1).crossover(father, mother, random, child);
+        assertArrayEquals(father, child);
+
+        // Con probabilidad 0 todas las letras se toman del segundo padre
+        new UniformCrossover(4, 0).crossover(father, mother, random, child);
+        assertArrayEquals(mother, child);
+    }
+}
@@ -1,25 +1,25 @@
-package Test;
-
-import static org.junit.Assert.*;
-
-import Domain.User;
-import org.junit.Test;
-import static org.junit.Assert.*;
-public class UserTest {
-
-
-    @Test
-    public void testUserConstructor() {
-        // Arrange
-        String username = "myUsername";
-        String password = "myPassword";
-
-        // Act
-        User user = new User(username, password);
-
-        // Assert
-        assertNotNull(user);
-        assertEquals(username, user.getUser());
-        assertEquals(password, user.getPassword());
-    }
+package Test;
+
+import static org.junit.Assert.*;
+
+import Domain.User;
+import org.junit.Test;
+import static org.junit.Assert.*;
+public class UserTest {
+
+
+    @Test
+    public void testUserConstructor() {
+        // Arrange
+        String username = "myUsername";
+        String password = "myPassword";
+
+        // Act
+        User user = new User(username, password);
+
+        // Assert
+        assertNotNull(user);
+        assertEquals(username, user.getUser());
+        assertEquals(password, user.getPassword());
+    }
 }
\ No newline at end of file